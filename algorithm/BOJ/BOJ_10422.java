@@ -1,3 +1,5 @@
+import lib.io.FastWriter;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -7,6 +9,7 @@ public class BOJ_10422 {
 
     public static void main(String[] args) throws IOException {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+        FastWriter fw = new FastWriter();
         long[] dp = new long[5001];
 
         dp[0] = 1;
@@ -23,7 +26,8 @@ public class BOJ_10422 {
         int t = Integer.parseInt(br.readLine());
         for (int tc = 1; tc <= t; tc++) {
             int n = Integer.parseInt(br.readLine());
-            System.out.println(dp[n]);
+            fw.println(dp[n]);
         }
+        fw.flush();
     }
 }
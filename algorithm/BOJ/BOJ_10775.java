@@ -1,26 +1,30 @@
-import java.io.BufferedReader;
+import lib.dsu.UnionFind;
+import lib.io.FastReader;
+
 import java.io.IOException;
-import java.io.InputStreamReader;
 
 public class BOJ_10775 {
 
     static int g, p;
-    static int[] parent;
+    static UnionFind uf;
+    // 집합마다 남아있는 가장 큰 빈 게이트 (집합의 최솟값)
+    static int[] low;
 
     public static void main(String[] args) throws IOException {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+        FastReader fr = FastReader.open(args);
 
-        g = Integer.parseInt(br.readLine());
-        p = Integer.parseInt(br.readLine());
-        parent = new int[g + 1];
+        g = fr.nextInt();
+        p = fr.nextInt();
+        uf = new UnionFind(g + 1);
+        low = new int[g + 1];
 
         for (int i = 1; i <= g; i++) {
-            parent[i] = i;
+            low[i] = i;
         }
 
         int result = 0;
         for (int i = 0; i < p; i++) {
-            int num = Integer.parseInt(br.readLine());
+            int num = fr.nextInt();
             int gate = find(num);
             if (gate == 0) break;
             result++;
@@ -30,18 +34,12 @@ public class BOJ_10775 {
     }
 
     private static int find(int x) {
-        if (parent[x] == x) {
-            return x;
-        }
-        return parent[x] = find(parent[x]);
+        return low[uf.find(x)];
     }
 
     private static void union(int x, int y) {
-        x = find(x);
-        y = find(y);
-
-        if (x != y) {
-            parent[y] = x;
-        }
+        int min = Math.min(find(x), find(y));
+        uf.union(x, y);
+        low[uf.find(x)] = min;
     }
 }
@@ -1,54 +1,25 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.PriorityQueue;
-import java.util.StringTokenizer;
+import lib.interval.RailSweep;
+import lib.io.FastReader;
+import lib.io.FastWriter;
 
 public class BOJ_13334 {
     static int n, d;
-    private static class Pos implements Comparable<Pos> {
-        int start;
-        int end;
-
-        public Pos(int start, int end) {
-            this.start = start;
-            this.end = end;
-        }
-
-        @Override
-        public int compareTo(Pos o) {
-            return Integer.compare(this.end, o.end);
-        }
-    }
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st;
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
 
-        n = Integer.parseInt(br.readLine());
-        PriorityQueue<Pos> pq = new PriorityQueue<>();
-        PriorityQueue<Integer> temp = new PriorityQueue<>();
+        n = fr.nextInt();
+        int[] h = new int[n];
+        int[] o = new int[n];
         for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
-            int h = Integer.parseInt(st.nextToken());
-            int o = Integer.parseInt(st.nextToken());
-            if (h < o) {
-                pq.offer(new Pos(h, o));
-            }
-            else {
-                pq.offer(new Pos(o, h));
-            }
+            h[i] = fr.nextInt();
+            o[i] = fr.nextInt();
         }
-        d = Integer.parseInt(br.readLine());
+        d = fr.nextInt();
 
-        int result = 0;
-        while(!pq.isEmpty()) {
-            Pos now = pq.poll();
-            temp.offer(now.start);
-            while (!temp.isEmpty() && temp.peek() < now.end - d) {
-                temp.poll();
-            }
-            result = Math.max(result, temp.size());
-        }
-        System.out.println(result);
+        // 끝 / 시작 기준으로 한 번 정렬해 두고 길이 d 이하인 사람만 맞대어 훑는다.
+        fw.println(new RailSweep(h, o, n).best(d));
+        fw.flush();
     }
 }
@@ -1,34 +1,24 @@
-import java.io.*;
-import java.util.*;
+import lib.io.FastReader;
+import lib.io.FastWriter;
+import lib.merge.HuffmanMerge;
 
 public class BOJ_13975 {
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st;
-        StringBuilder sb = new StringBuilder();
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
 
-        PriorityQueue<Long> pq;
-        int t = Integer.parseInt(br.readLine());
+        // 모든 테스트 케이스가 작업 공간 하나를 같이 쓴다.
+        HuffmanMerge merge = new HuffmanMerge(1 << 10);
+        int t = fr.nextInt();
         for (int tc = 0; tc < t; tc++) {
-            int k = Integer.parseInt(br.readLine());
-            pq = new PriorityQueue<>();
-            st = new StringTokenizer(br.readLine());
+            int k = fr.nextInt();
+            merge.clear();
             for (int i = 0; i < k; i++) {
-                pq.offer(Long.parseLong(st.nextToken()));
+                merge.add(fr.nextLong());
             }
-            long result = 0;
-            while (true) {
-                long p1 = pq.poll();
-                if (pq.isEmpty()) {
-                    break;
-                }
-                long p2 = pq.poll();
-                result += p1 + p2;
-                pq.offer(p1 + p2);
-            }
-            sb.append(result).append('\n');
+            fw.println(merge.cost());
         }
-        System.out.println(sb);
+        fw.flush();
     }
 }
@@ -1,69 +1,37 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.StringTokenizer;
+import lib.io.FastReader;
+import lib.trie.CompactTrie;
+import lib.trie.DoubleArrayTrie;
 
 public class BOJ_14426 {
 
     static int n, m;
-
-    static class Node {
-        Map<Character, Node> child;
-
-        public Node() {
-            this.child = new HashMap<>();
-        }
-    }
-
-    static class Trie {
-        Node root;
-
-        public Trie() {
-            this.root = new Node();
-        }
-
-        private void insert(String str) {
-            Node node = this.root;
-
-            for (int i = 0; i < str.length(); i++) {
-                char c = str.charAt(i);
-                node.child.putIfAbsent(c, new Node());
-                node = node.child.get(c);
-            }
-        }
-
-        private boolean search(String str) {
-            Node node = this.root;
-
-            for (int i = 0; i < str.length(); i++) {
-                char c = str.charAt(i);
-                if (node.child.containsKey(c)) {
-                    node = node.child.get(c);
-                } else {
-                    return false;
-                }
-            }
-            return true;
-        }
-    }
+    // 이보다 긴 문자열은 받지 않는다. nextWord 가 버퍼를 넘는 부분을 버리므로 버퍼를 한 칸 더 잡아 잘린 것을 알아챈다.
+    static final int MAX_WORD = 500;
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st = new StringTokenizer(br.readLine());
+        FastReader fr = FastReader.open(args);
 
-        n = Integer.parseInt(st.nextToken());
-        m = Integer.parseInt(st.nextToken());
+        n = fr.nextInt();
+        m = fr.nextInt();
 
-        Trie trie = new Trie();
+        DoubleArrayTrie trie = new DoubleArrayTrie(CompactTrie.LOWERCASE);
+        byte[] word = new byte[MAX_WORD + 1];
 
         for (int i = 0; i < n; i++) {
-            trie.insert(br.readLine());
+            int len = fr.nextWord(word);
+            if (len > MAX_WORD) {
+                throw new IllegalArgumentException("word longer than " + MAX_WORD);
+            }
+            trie.insert(word, 0, len);
         }
 
         int cnt = 0;
         for (int i = 0; i < m; i++) {
-            if (trie.search(br.readLine())) {
+            int len = fr.nextWord(word);
+            if (len > MAX_WORD) {
+                throw new IllegalArgumentException("word longer than " + MAX_WORD);
+            }
+            if (trie.containsPrefix(word, 0, len)) {
                 cnt++;
             }
         }
@@ -1,50 +1,19 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.StringTokenizer;
+import lib.grid.DownhillPaths;
+import lib.io.FastReader;
 
 public class BOJ_1520 {
-    static int n, m;
-    static int[][] graph;
-    static int[][] result;
-    static int[][] dirs = { {1, 0}, {-1, 0}, {0, 1}, {0, -1} };
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st = new StringTokenizer(br.readLine());
-        n = Integer.parseInt(st.nextToken());
-        m = Integer.parseInt(st.nextToken());
-        graph = new int[n][m];
-        result = new int[n][m];
+        FastReader fr = FastReader.open(args);
+        int n = fr.nextInt();
+        int m = fr.nextInt();
+        int[] heights = new int[n * m];
 
-        for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
-            for (int j = 0; j < m; j++) {
-                graph[i][j] = Integer.parseInt(st.nextToken());
-                result[i][j] = -1;
-            }
+        for (int i = 0; i < n * m; i++) {
+            heights[i] = fr.nextInt();
         }
 
-        System.out.println(dfs(0, 0));
-    }
-
-    public static int dfs(int x, int y) {
-        if (x == n-1 && y == m-1) {
-            return 1;
-        }
-
-        if (result[x][y] == -1) {
-            result[x][y] = 0;
-            for (int[] dir : dirs) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-                if (nx < 0 || ny < 0 || nx >= n || ny >= m) {
-                    continue;
-                }
-                if (graph[x][y] > graph[nx][ny]) {
-                    result[x][y] += dfs(nx, ny);
-                }
-            }
-        }
-        return result[x][y];
+        // 높은 칸부터 경로 수를 아래로 민다.
+        System.out.println(new DownhillPaths(heights, n, m).count(0, n * m - 1));
     }
 }
@@ -1,3 +1,5 @@
+import lib.io.FastWriter;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 
@@ -5,6 +7,7 @@ public class BOJ_15989 {
 
     public static void main(String[] args) throws Exception {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+        FastWriter fw = new FastWriter();
         int[][] dp = new int[10001][4];
         dp[1][1] = 1;
         dp[2][1] = 1;
@@ -22,7 +25,8 @@ public class BOJ_15989 {
         int t = Integer.parseInt(br.readLine());
         for (int tc = 1; tc <= t; tc++) {
             int n = Integer.parseInt(br.readLine());
-            System.out.println(dp[n][1] + dp[n][2] + dp[n][3]);
+            fw.println(dp[n][1] + dp[n][2] + dp[n][3]);
         }
+        fw.flush();
     }
 }
@@ -1,72 +1,18 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.StringTokenizer;
+import lib.graph.DensePrim;
+import lib.io.FastReader;
 
 public class BOJ_16398 {
     static int n;
-    static ArrayList<Edge> edges;
-    static int[] parent;
-    static class Edge implements Comparable<Edge> {
-        int s;
-        int e;
-        int w;
-
-        public Edge(int s, int e, int w) {
-            this.s = s;
-            this.e = e;
-            this.w = w;
-        }
-
-        @Override
-        public int compareTo(Edge o) {
-            return this.w - o.w;
-        }
-    }
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st;
-        n = Integer.parseInt(br.readLine());
-        edges = new ArrayList<>();
-        parent = new int[n+1];
-        for (int i = 1; i <= n; i++) {
-            parent[i] = i;
-        }
-
-        for (int i = 1; i <= n; i++) {
-            st = new StringTokenizer(br.readLine());
-            for (int j = 1; j <= n; j++) {
-                int w = Integer.parseInt(st.nextToken());
-                if (i != j) {
-                    edges.add(new Edge(i, j, w));
-                }
-            }
-        }
-        Collections.sort(edges);
-        long result = 0;
-        for (Edge edge : edges) {
-            if (find(edge.s) != find(edge.e)) {
-                result += edge.w;
-                union(edge.s, edge.e);
-            }
-        }
-        System.out.println(result);
-    }
-
-    public static void union(int x, int y) {
-        x = find(x);
-        y = find(y);
-        if (x != y) {
-            parent[y] = x;
-        }
-    }
+        FastReader fr = FastReader.open(args);
+        n = fr.nextInt();
+        int[] matrix = new int[n * n];
 
-    public static int find(int x) {
-        if (parent[x] == x) {
-            return x;
+        for (int i = 0; i < n * n; i++) {
+            matrix[i] = fr.nextInt();
         }
-        return parent[x] = find(parent[x]);
+        // 완전 그래프라 간선을 만들지 않고 행렬 위에서 프림을 돈다.
+        System.out.println(DensePrim.weight(matrix, n));
     }
 }
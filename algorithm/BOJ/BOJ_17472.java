@@ -1,16 +1,16 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import lib.dsu.UnionFind;
+import lib.grid.GridBfs;
+import lib.io.FastReader;
+
 import java.util.*;
 
 public class BOJ_17472 {
     static int n, m;
-    static int[][] board;
-    static boolean[][] visited;
-    static ArrayList<Integer>[] islands;
+    static GridBfs bfs;
+    // 테두리까지 포함해서 GridBfs 의 칸 번호로 편 보드. 섬 번호를 매긴 뒤에는 칸마다 섬 번호(바다는 0)가 들어간다.
+    static int[] board;
     static int islandNum;
-    static int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
     static PriorityQueue<Edge> pq;
-    static int[] parents;
 
     private static class Edge implements Comparable<Edge> {
         int from;
@@ -30,29 +30,33 @@ public class BOJ_17472 {
     }
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st = new StringTokenizer(br.readLine());
+        FastReader fr = FastReader.open(args);
 
-        n = Integer.parseInt(st.nextToken());
-        m = Integer.parseInt(st.nextToken());
-        board = new int[n][m];
-        islands = new ArrayList[7];
-        for (int i = 1; i <= 6; i++) {
-            islands[i] = new ArrayList<>();
-        }
+        n = fr.nextInt();
+        m = fr.nextInt();
+        bfs = new GridBfs(n, m);
+        board = new int[bfs.cells()];
         for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
             for (int j = 0; j < m; j++) {
-                board[i][j] = Integer.parseInt(st.nextToken());
+                // 아직 번호를 매기지 않은 땅은 -1
+                board[bfs.index(i, j)] = -fr.nextInt();
             }
         }
 
-        visited = new boolean[n][m];
         islandNum = 1;
         for (int i = 0; i < n; i++) {
             for (int j = 0; j < m; j++) {
-                if (board[i][j] == 1 && !visited[i][j]) {
-                    bfs(i, j);
+                int idx = bfs.index(i, j);
+                if (board[idx] < 0) {
+                    bfs.addSource(idx);
+                    board[idx] = islandNum;
+                    bfs.run((from, to) -> {
+                        if (board[to] < 0) {
+                            board[to] = islandNum;
+                            return true;
+                        }
+                        return false;
+                    });
                     islandNum++;
                 }
             }
@@ -62,50 +66,26 @@ public class BOJ_17472 {
         System.out.println(kruskal());
     }
 
-    private static void bfs(int sx, int sy) {
-        Queue<Integer> q = new LinkedList<>();
-        q.offer(sx * 100 + sy);
-        visited[sx][sy] = true;
-        while (!q.isEmpty()) {
-            int now = q.poll();
-            int x = now / 100;
-            int y = now % 100;
-            board[x][y] = islandNum;
-            islands[islandNum].add(now);
-            for (int[] dir : dirs) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-                if (nx < 0 || ny < 0 || nx >= n || ny >= m || visited[nx][ny] || board[nx][ny] == 0) {
+    // 다리는 양방향이라 오른쪽과 아래쪽으로만 뻗어본다.
+    // 땅 바로 옆이 바다인 칸에서만 출발하므로 바다 칸은 방향마다 한 번씩만 지나간다.
+    private static void getEdges() {
+        int[] steps = {1, bfs.width()};
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                int idx = bfs.index(i, j);
+                int from = board[idx];
+                if (from == 0) {
                     continue;
                 }
-                visited[nx][ny] = true;
-                q.offer(nx * 100 + ny);
-            }
-        }
-    }
-
-    private static void getEdges() {
-        for (int i = 1; i < islandNum; i++) {
-            for (int j = 0; j < islands[i].size(); j++) {
-                int point = islands[i].get(j);
-                int x = point / 100;
-                int y = point % 100;
-                for (int[] dir : dirs) {
-                    for (int d = 1; d < 10; d++) {
-                        int nx = x + dir[0] * d;
-                        int ny = y + dir[1] * d;
-                        if (nx < 0 || ny < 0 || nx >= n || ny >= m) {
-                            break;
-                        }
-                        if (board[nx][ny] == i) {
-                            break;
-                        }
-                        if (board[nx][ny] != 0 && board[nx][ny] != i) {
-                            if (d > 2) {
-                                pq.offer(new Edge(i, board[nx][ny], d - 1));
-                            }
-                            break;
-                        }
+                for (int step : steps) {
+                    int next = idx + step;
+                    int d = 0;
+                    while (!bfs.isBorder(next) && board[next] == 0) {
+                        next += step;
+                        d++;
+                    }
+                    if (d >= 2 && !bfs.isBorder(next) && board[next] != from) {
+                        pq.offer(new Edge(from, board[next], d));
                     }
                 }
             }
@@ -113,15 +93,12 @@ public class BOJ_17472 {
     }
 
     private static int kruskal() {
-        parents = new int[7];
-        for (int i = 1; i <= 6; i++) {
-            parents[i] = i;
-        }
+        UnionFind uf = new UnionFind(islandNum);
         int result = 0;
         int cnt = 0;
         while (!pq.isEmpty()) {
             Edge now = pq.poll();
-            if (union(now.from, now.to)) {
+            if (uf.union(now.from, now.to)) {
                 result += now.dist;
                 cnt++;
             }
@@ -134,22 +111,4 @@ public class BOJ_17472 {
         }
         return result;
     }
-
-    private static int find(int x) {
-        if (parents[x] == x) {
-            return x;
-        }
-        return parents[x] = find(parents[x]);
-    }
-
-    private static boolean union(int x, int y) {
-        x = find(x);
-        y = find(y);
-
-        if (x != y) {
-            parents[y] = x;
-            return true;
-        }
-        return false;
-    }
 }
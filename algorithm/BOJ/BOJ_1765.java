@@ -1,15 +1,15 @@
+import lib.dsu.UnionFind;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.StringTokenizer;
 
 public class BOJ_1765 {
     static int n, m;
     static ArrayList<Integer>[] friend;
     static ArrayList<Integer>[] enemy;
-    static int[] parent;
+    static UnionFind uf;
 
     public static void main(String[] args) throws Exception {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
@@ -19,11 +19,10 @@ public class BOJ_1765 {
         m = Integer.parseInt(br.readLine());
         friend = new ArrayList[n + 1];
         enemy = new ArrayList[n + 1];
-        parent = new int[n + 1];
+        uf = new UnionFind(n + 1);
         for (int i = 1; i <= n; i++) {
             friend[i] = new ArrayList<>();
             enemy[i] = new ArrayList<>();
-            parent[i] = i;
         }
 
         for (int i = 0; i < m; i++) {
@@ -55,29 +54,11 @@ public class BOJ_1765 {
 
         for (int i = 1; i <= n; i++) {
             for (int j = 0; j < friend[i].size(); j++) {
-                union(i, friend[i].get(j));
+                uf.union(i, friend[i].get(j));
             }
         }
 
-        Set<Integer> set = new HashSet<>();
-        for (int i = 1; i <= n; i++) {
-            set.add(parent[i]);
-        }
-        System.out.println(set.size());
-    }
-
-    private static void union(int x, int y) {
-        x = find(x);
-        y = find(y);
-        if (x != y) {
-            parent[y] = x;
-        }
-    }
-
-    private static int find(int x) {
-        if (parent[x] == x) {
-            return x;
-        }
-        return parent[x] = find(parent[x]);
+        // 0번은 쓰지 않는 원소라 하나 뺀다.
+        System.out.println(uf.components() - 1);
     }
 }
@@ -1,48 +1,21 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.PriorityQueue;
-import java.util.StringTokenizer;
+import lib.io.FastReader;
+import lib.io.FastWriter;
+import lib.schedule.DeadlineScheduler;
 
 public class BOJ_1781 {
 
-    static class Problem implements Comparable<Problem> {
-        int deadline;
-        int ramenCnt;
-
-        public Problem(int deadline, int ramenCnt) {
-            this.deadline = deadline;
-            this.ramenCnt = ramenCnt;
-        }
-
-        @Override
-        public int compareTo(Problem o) {
-            return this.deadline == o.deadline ? o.ramenCnt - this.ramenCnt : this.deadline - o.deadline;
-        }
-    }
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st;
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
 
-        int n = Integer.parseInt(br.readLine());
-        PriorityQueue<Problem> pq = new PriorityQueue<>();
+        int n = fr.nextInt();
+        DeadlineScheduler scheduler = new DeadlineScheduler(n);
         for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
-            pq.offer(new Problem(Integer.parseInt(st.nextToken()), Integer.parseInt(st.nextToken())));
-        }
-
-        int result = 0;
-        PriorityQueue<Integer> temp = new PriorityQueue<>();
-        while (!pq.isEmpty()) {
-            Problem p = pq.poll();
-            temp.offer(p.ramenCnt);
-            if (temp.size() > p.deadline) {
-                temp.poll();
-            }
-        }
-        while (!temp.isEmpty()) {
-            result += temp.poll();
+            scheduler.add(fr.nextInt(), fr.nextInt());
         }
 
-        System.out.println(result);
+        // 컵라면이 많은 문제부터 데드라인 안의 가장 늦은 빈 칸에 넣는다.
+        fw.println(scheduler.maxReward());
+        fw.flush();
     }
 }
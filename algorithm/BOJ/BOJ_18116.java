@@ -1,56 +1,36 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.StringTokenizer;
+import lib.dsu.ConcurrentUnionFind;
+import lib.io.FastReader;
+import lib.io.FastWriter;
 
 public class BOJ_18116 {
-    static int[] parent;
-    static int[] count;
+    static ConcurrentUnionFind uf;
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st;
-        StringBuilder sb = new StringBuilder();
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
 
-        int n = Integer.parseInt(br.readLine());
-        parent = new int[1000001];
-        count = new int[1000001];
-
-        for (int i = 1; i <= 1000000; i++) {
-            parent[i] = i;
-            count[i] = 1;
-        }
+        int n = fr.nextInt();
+        uf = new ConcurrentUnionFind(1000001);
+        // 연속으로 들어온 I 는 모아뒀다가 Q 가 나오면 한꺼번에 병렬로 합친다.
+        int[] batch = new int[n * 2];
+        int cnt = 0;
 
         for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
-            String s = st.nextToken();
-            if (s.equals("I")) {
-                int a = Integer.parseInt(st.nextToken());
-                int b = Integer.parseInt(st.nextToken());
-                union(a, b);
+            char s = fr.nextChar();
+            if (s == 'I') {
+                int a = fr.nextInt();
+                int b = fr.nextInt();
+                batch[cnt * 2] = a;
+                batch[cnt * 2 + 1] = b;
+                cnt++;
             }
             else {
-                int c = Integer.parseInt(st.nextToken());
-                sb.append(count[find(c)]).append('\n');
+                int c = fr.nextInt();
+                uf.unionAll(batch, 0, cnt);
+                cnt = 0;
+                fw.println(uf.size(c));
             }
         }
-        System.out.println(sb);
-    }
-
-    public static void union(int x, int y) {
-        x = find(x);
-        y = find(y);
-
-        if (x == y) {
-            return;
-        }
-        count[x] += count[y];
-        parent[y] = x;
-    }
-
-    public static int find(int x) {
-        if (parent[x] == x) {
-            return x;
-        }
-        return parent[x] = find(parent[x]);
+        fw.flush();
     }
 }
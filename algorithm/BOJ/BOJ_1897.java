@@ -1,74 +1,69 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.*;
+import lib.io.FastReader;
+import lib.io.FastWriter;
+import lib.text.DeletionIndex;
+
+import java.util.Arrays;
 
 public class BOJ_1897 {
 
     static int d;
-    static String[] words;
+    static DeletionIndex index;
     static boolean[] visited;
-    static Queue<Integer> q;
-    static String result;
+    static int[] queue;
+    static int tail;
+    // 이보다 긴 단어는 받지 않는다. nextWord 가 버퍼를 넘는 부분을 버리므로 버퍼를 한 칸 더 잡아 잘린 것을 알아챈다.
+    static final int MAX_WORD = 80;
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st = new StringTokenizer(br.readLine());
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
 
-        d = Integer.parseInt(st.nextToken());
-        String start = st.nextToken();;
-        words = new String[d];
+        d = fr.nextInt();
+        byte[] start = new byte[MAX_WORD + 1];
+        int startLen = fr.nextWord(start);
+        if (startLen > MAX_WORD) {
+            throw new IllegalArgumentException("word longer than " + MAX_WORD);
+        }
+        index = new DeletionIndex();
         visited = new boolean[d];
-        q = new LinkedList<>();
+        queue = new int[d];
 
+        byte[] word = new byte[MAX_WORD + 1];
         for (int i = 0; i < d; i++) {
-            words[i] = br.readLine();
-            if (words[i].equals(start)) {
-                visited[i] = true;
-                q.offer(i);
+            int len = fr.nextWord(word);
+            if (len > MAX_WORD) {
+                throw new IllegalArgumentException("word longer than " + MAX_WORD);
+            }
+            int id = index.add(word, 0, len);
+            if (!visited[id] && Arrays.equals(word, 0, len, start, 0, startLen)) {
+                visited[id] = true;
+                queue[tail++] = id;
             }
         }
-        result = "";
-        bfs();
-        System.out.println(result);
-    }
 
-    private static void bfs() {
-        while (!q.isEmpty()) {
-            int now = q.poll();
-            if (words[now].length() > result.length()) {
-                result = words[now];
-            }
-            for (int i = 0; i < words.length; i++) {
-                if (visited[i]) {
-                    continue;
-                }
-                if (compare(words[now], words[i])) {
-                    q.offer(i);
-                    visited[i] = true;
-                }
-            }
+        int result = bfs();
+        if (result >= 0) {
+            fw.print(index.chars(), index.start(result), index.start(result) + index.length(result));
         }
+        fw.println();
+        fw.flush();
     }
 
-    private static boolean compare(String from, String to) {
-        if (from.length() + 1 != to.length()) {
-            return false;
-        }
-        boolean flag = true;
-        for (int i = 0, j = 0; i < from.length() && j < to.length();) {
-            if (from.charAt(i) != to.charAt(j)) {
-                j++;
-                if (flag) {
-                    flag = false;
-                }
-                else {
-                    return false;
-                }
-            } else {
-                i++;
-                j++;
+    // 꺼낸 단어에 한 글자를 끼운 단어들을 삭제 변형 색인에서 바로 찾는다.
+    private static int bfs() {
+        int result = -1;
+        for (int head = 0; head < tail; head++) {
+            int now = queue[head];
+            if (result < 0 || index.length(now) > index.length(result)) {
+                result = now;
             }
+            index.forEachExtension(now, next -> {
+                if (!visited[next]) {
+                    visited[next] = true;
+                    queue[tail++] = next;
+                }
+            });
         }
-        return true;
+        return result;
     }
 }
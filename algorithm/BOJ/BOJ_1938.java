@@ -1,230 +1,71 @@
+import lib.grid.GridBfs;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Arrays;
 
 public class BOJ_1938 {
     static int n;
-    static char[][] board;
-    // true == 가로, false == 세로
-    static boolean startStatus, endStatus;
-    static int scx, scy, ecx, ecy;
-    static int result;
-
-    private static class Info implements Comparable<Info> {
-        int cx;
-        int cy;
-        boolean status;
-        int cnt;
-
-        public Info(int cx, int cy, boolean status, int cnt) {
-            this.cx = cx;
-            this.cy = cy;
-            this.status = status;
-            this.cnt = cnt;
-        }
-
-        @Override
-        public int compareTo(Info o) {
-            return Integer.compare(this.cnt, o.cnt);
-        }
-    }
+    // 테두리까지 포함해서 GridBfs 의 칸 번호로 편 보드. 테두리는 나무('1')로 막아둔다.
+    static char[] board;
+    static GridBfs bfs;
+    static int w;
+    // 1층 == 가로, 0층 == 세로
+    static final int VERTICAL = 0, HORIZONTAL = 1;
 
     public static void main(String[] args) throws Exception {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
         n = Integer.parseInt(br.readLine());
-        board = new char[n][n];
-        ArrayList<Integer> b = new ArrayList<>();
-        ArrayList<Integer> e = new ArrayList<>();
+        bfs = new GridBfs(n, n, 2);
+        w = bfs.width();
+        board = new char[(n + 2) * w];
+        Arrays.fill(board, '1');
+        int[] b = new int[3];
+        int[] e = new int[3];
+        int bCnt = 0, eCnt = 0;
 
         for (int i = 0; i < n; i++) {
             String line = br.readLine();
             for (int j = 0; j < n; j++) {
-                board[i][j] = line.charAt(j);
-                if (board[i][j] == 'B') {
-                    b.add(i*100 + j);
-                } else if (board[i][j] == 'E') {
-                    e.add(i*100 + j);
+                int idx = bfs.index(i, j);
+                board[idx] = line.charAt(j);
+                if (board[idx] == 'B') {
+                    b[bCnt++] = idx;
+                } else if (board[idx] == 'E') {
+                    e[eCnt++] = idx;
                 }
             }
         }
-        scx = b.get(1) / 100;
-        scy = b.get(1) % 100;
-        startStatus = b.get(0) / 100 == scx;
+        // 가운데 칸이 중심이고, 첫 칸과 같은 행이면 가로
+        int start = b[1] + (b[0] / w == b[1] / w ? HORIZONTAL : VERTICAL) * board.length;
+        int end = e[1] + (e[0] / w == e[1] / w ? HORIZONTAL : VERTICAL) * board.length;
 
-        ecx = e.get(1) / 100;
-        ecy = e.get(1) % 100;
-        endStatus = e.get(0) / 100 == ecx;
-        result = Integer.MAX_VALUE;
-        bfs();
-        System.out.println(result == Integer.MAX_VALUE ? 0 : result);
+        bfs.addSource(start);
+        bfs.run(BOJ_1938::movable);
+        System.out.println(Math.max(bfs.dist(end), 0));
     }
 
-    private static void bfs() {
-        boolean[][][] visited = new boolean[n][n][2];
-        Queue<Info> q = new LinkedList<>();
-        q.offer(new Info(scx, scy, startStatus, 0));
-        if (startStatus) {
-            visited[scx][scy][1] = true;
-        } else {
-            visited[scx][scy][0] = true;
-        }
-
-        while (!q.isEmpty()) {
-            Info now = q.poll();
-            if (now.cx == ecx && now.cy == ecy) {
-                result = Math.min(result, now.cnt);
-                continue;
-            }
-            int flag = 0;
-            if (now.status) flag = 1;
-            if (now.cx - 1 >= 0 && !visited[now.cx - 1][now.cy][flag]){
-                Info u = up(now);
-                if (u != null) {
-                    visited[now.cx - 1][now.cy][flag] = true;
-                    q.offer(u);
-                }
-            }
-            if (now.cx + 1 < n && !visited[now.cx + 1][now.cy][flag]) {
-                Info d = down(now);
-                if (d != null) {
-                    visited[now.cx + 1][now.cy][flag] = true;
-                    q.offer(d);
-                }
-            }
-            if (now.cy - 1 >= 0 && !visited[now.cx][now.cy - 1][flag]) {
-                Info l = left(now);
-                if (l != null) {
-                    visited[now.cx][now.cy - 1][flag] = true;
-                    q.offer(l);
+    private static boolean movable(int from, int to) {
+        int c = bfs.cell(to);
+        if (bfs.layer(from) != bfs.layer(to)) {
+            // 중앙 기준 3x3 이 비어있는지 체크
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    if (board[c + i * w + j] == '1') {
+                        return false;
+                    }
                 }
             }
-            if (now.cy + 1 < n && !visited[now.cx][now.cy + 1][flag]) {
-                Info r = right(now);
-                if (r != null) {
-                    visited[now.cx][now.cy + 1][flag] = true;
-                    q.offer(r);
-                }
-            }
-            if (!visited[now.cx][now.cy][now.status ? 0 : 1]) {
-                Info t = turn(now);
-                if (t != null) {
-                    visited[now.cx][now.cy][now.status ? 0 : 1] = true;
-                    q.offer(t);
-                }
-            }
-        }
-    }
-
-    private static Info up(Info info) {
-        // 가로인 경우
-        if (info.status) {
-            if (info.cx - 1 < 0 || info.cy - 1 < 0 || info.cy + 1 >= n) {
-                return null;
-            }
-            if (board[info.cx - 1][info.cy - 1] != '1' &&
-                    board[info.cx - 1][info.cy] != '1' &&
-                    board[info.cx - 1][info.cy + 1] != '1') {
-                return new Info(info.cx - 1, info.cy, info.status, info.cnt + 1);
-            }
+            return true;
         }
-        // 세로인 경우
-        else {
-            if (info.cx - 2 < 0) {
-                return null;
-            }
-            if (board[info.cx - 2][info.cy] != '1') {
-                return new Info(info.cx - 1, info.cy, info.status, info.cnt + 1);
-            }
-        }
-        return null;
-    }
-
-    private static Info down(Info info) {
-        // 가로인 경우
-        if (info.status) {
-            if (info.cx + 1 >= n || info.cy + 1 >= n || info.cy - 1 < 0) {
-                return null;
-            }
-            if (board[info.cx + 1][info.cy - 1] != '1' &&
-                    board[info.cx + 1][info.cy] != '1' &&
-                    board[info.cx + 1][info.cy + 1] != '1') {
-                return new Info(info.cx + 1, info.cy, info.status, info.cnt + 1);
-            }
-        }
-        // 세로인 경우
-        else {
-            if (info.cx + 2 >= n) {
-                return null;
-            }
-            if (board[info.cx + 2][info.cy] != '1') {
-                return new Info(info.cx + 1, info.cy, info.status, info.cnt + 1);
-            }
-        }
-        return null;
-    }
-
-    private static Info left(Info info) {
-        // 가로인 경우
-        if (info.status) {
-            if (info.cy - 2 < 0) {
-                return null;
-            }
-            if (board[info.cx][info.cy - 2] != '1') {
-                return new Info(info.cx, info.cy - 1, info.status, info.cnt + 1);
-            }
-        }
-        // 세로인 경우
-        else {
-            if (info.cx + 1 >= n || info.cx - 1 < 0 || info.cy - 1 < 0) {
-                return null;
-            }
-            if (board[info.cx - 1][info.cy - 1] != '1' &&
-                    board[info.cx][info.cy - 1] != '1' &&
-                    board[info.cx + 1][info.cy - 1] != '1') {
-                return new Info(info.cx, info.cy - 1, info.status, info.cnt + 1);
-            }
-        }
-        return null;
-    }
-
-    private static Info right(Info info) {
-        // 가로인 경우
-        if (info.status) {
-            if (info.cy + 2 >= n) {
-                return null;
-            }
-            if (board[info.cx][info.cy + 2] != '1') {
-                return new Info(info.cx, info.cy + 1, info.status, info.cnt + 1);
-            }
-        }
-        // 세로인 경우
-        else {
-            if (info.cx + 1 >= n || info.cx - 1 < 0 || info.cy + 1 >= n) {
-                return null;
-            }
-            if (board[info.cx - 1][info.cy + 1] != '1' &&
-                    board[info.cx][info.cy + 1] != '1' &&
-                    board[info.cx + 1][info.cy + 1] != '1') {
-                return new Info(info.cx, info.cy + 1, info.status, info.cnt + 1);
-            }
-        }
-        return null;
-    }
-
-    private static Info turn(Info info) {
-        // 중앙 기준 비어있는지 체크
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                if (info.cx + i < 0 || info.cx + 1 >= n || info.cy + j < 0 || info.cy + j >= n) {
-                    return null;
-                }
-                if (board[info.cx + i][info.cy + j] == '1') {
-                    return null;
-                }
-            }
+        int diff = c - bfs.cell(from);
+        boolean horizontal = bfs.layer(to) == HORIZONTAL;
+        // 통나무 방향으로 밀면 새로 들어가는 끝 한 칸만, 옆으로 밀면 새 자리 세 칸을 본다.
+        boolean lengthwise = horizontal == (diff == 1 || diff == -1);
+        if (lengthwise) {
+            return board[c + diff] != '1';
         }
-        return new Info(info.cx, info.cy, !info.status, info.cnt + 1);
+        int across = horizontal ? 1 : w;
+        return board[c - across] != '1' && board[c] != '1' && board[c + across] != '1';
     }
 }
@@ -1,81 +1,43 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.StringTokenizer;
+import lib.grid.TorusWords;
+import lib.io.FastReader;
+import lib.io.FastWriter;
+
+import java.util.Arrays;
 
 public class BOJ_20166 {
     static int n, m, k;
-    static char[][] board;
-    static String[] words;
-    static int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
-    static Map<String, Integer> map;
+    // 이보다 긴 단어는 받지 않는다. nextWord 가 버퍼를 넘는 부분을 버리므로 버퍼를 한 칸 더 잡아 잘린 것을 알아챈다.
+    static final int MAX_WORD = 1 << 10;
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st = new StringTokenizer(br.readLine());
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
 
-        n = Integer.parseInt(st.nextToken());
-        m = Integer.parseInt(st.nextToken());
-        k = Integer.parseInt(st.nextToken());
-        board = new char[n][m];
-        words = new String[k];
-        map = new HashMap<>();
+        n = fr.nextInt();
+        m = fr.nextInt();
+        k = fr.nextInt();
+        byte[] cells = new byte[n * m];
+        byte[] line = new byte[m];
 
         for (int i = 0; i < n; i++) {
-            String line = br.readLine();
-            for (int j = 0; j < m; j++) {
-                board[i][j] = line.charAt(j);
-            }
+            fr.nextWord(line);
+            System.arraycopy(line, 0, cells, i * m, m);
         }
 
+        byte[][] words = new byte[k][];
+        byte[] word = new byte[MAX_WORD + 1];
         for (int i = 0; i < k; i++) {
-            words[i] = br.readLine();
-        }
-
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < m; j++) {
-                dfs(1, i, j, new StringBuilder().append(board[i][j]));
+            int len = fr.nextWord(word);
+            if (len > MAX_WORD) {
+                throw new IllegalArgumentException("word longer than " + MAX_WORD);
             }
+            words[i] = Arrays.copyOf(word, len);
         }
 
-        for (String s : words) {
-            if (map.containsKey(s)) {
-                System.out.println(map.get(s));
-            }
-            else {
-                System.out.println(0);
-            }
-        }
-    }
-
-    public static void dfs(int depth, int x, int y, StringBuilder sb) {
-        if (!map.containsKey(sb.toString())) {
-            map.put(sb.toString(), 1);
-        }
-        else {
-            map.put(sb.toString(), map.get(sb.toString()) + 1);
-        }
-        if (depth == 5) {
-            return;
-        }
-        for (int[] dir : dirs) {
-            int nx = x + dir[0];
-            int ny = y + dir[1];
-            if (nx < 0) {
-                nx = n-1;
-            }
-            if (nx >= n) {
-                nx = 0;
-            }
-            if (ny < 0) {
-                ny = m-1;
-            }
-            if (ny >= m) {
-                ny = 0;
-            }
-            dfs(depth + 1, nx, ny, sb.append(board[nx][ny]));
-            sb.deleteCharAt(sb.length()-1);
+        // 물어본 단어의 트라이를 따라 칸별 경로 수 층만 내려간다.
+        for (long count : new TorusWords(cells, n, m).count(words)) {
+            fw.println(count);
         }
+        fw.flush();
     }
 }
@@ -1,41 +1,39 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import lib.io.FastReader;
+import lib.io.FastWriter;
+import lib.text.SortedWords;
+
+import java.util.Arrays;
 
 public class BOJ_2179 {
+    // 이보다 긴 단어는 받지 않는다. nextWord 가 버퍼를 넘는 부분을 버리므로 버퍼를 한 칸 더 잡아 잘린 것을 알아챈다.
+    static final int MAX_WORD = 100;
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        int n = Integer.parseInt(br.readLine());
-        String[] words = new String[n];
+        FastReader fr = FastReader.open(args);
+        FastWriter fw = new FastWriter();
+        int n = fr.nextInt();
+        byte[] chars = new byte[n * 16];
+        int[] offset = new int[n + 1];
+        byte[] word = new byte[MAX_WORD + 1];
 
         for (int i = 0; i < n; i++) {
-            words[i] = br.readLine();
-        }
-
-        int maxPrefixLen = 0;
-        int hashVal = 0;
-
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (words[i].compareTo(words[j]) == 0) {
-                    continue;
-                }
-                int len = Math.min(words[i].length(), words[j].length());
-                int idx = 0;
-                while (idx < len) {
-                    if (words[i].charAt(idx) == words[j].charAt(idx)) {
-                        idx++;
-                    } else {
-                        break;
-                    }
-                }
-                if (idx > maxPrefixLen) {
-                    maxPrefixLen = idx;
-                    hashVal = i * 100000 + j;
-                }
+            int len = fr.nextWord(word);
+            if (len > MAX_WORD) {
+                throw new IllegalArgumentException("word longer than " + MAX_WORD);
+            }
+            if (offset[i] + len > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, offset[i] + len));
             }
+            System.arraycopy(word, 0, chars, offset[i], len);
+            offset[i + 1] = offset[i] + len;
         }
-        System.out.println(words[hashVal / 100000]);
-        System.out.println(words[hashVal % 100000]);
+
+        // 정렬 순서에서 공통 접두사가 가장 긴 덩어리들만 본다.
+        int[] pair = new SortedWords(chars, offset).similarPair();
+        int s = pair == null ? 0 : pair[0];
+        int t = pair == null ? 0 : pair[1];
+        fw.print(chars, offset[s], offset[s + 1]).println();
+        fw.print(chars, offset[t], offset[t + 1]).println();
+        fw.flush();
     }
 }
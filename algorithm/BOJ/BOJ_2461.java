@@ -1,22 +1,19 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import lib.io.FastReader;
+
 import java.util.Arrays;
-import java.util.StringTokenizer;
 
 public class BOJ_2461 {
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st = new StringTokenizer(br.readLine());
+        FastReader fr = FastReader.open(args);
 
-        int n = Integer.parseInt(st.nextToken());
-        int m = Integer.parseInt(st.nextToken());
+        int n = fr.nextInt();
+        int m = fr.nextInt();
         int[][] stat = new int[n][m];
 
         for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
             for (int j = 0; j < m; j++) {
-                stat[i][j] = Integer.parseInt(st.nextToken());
+                stat[i][j] = fr.nextInt();
             }
             Arrays.sort(stat[i]);
         }
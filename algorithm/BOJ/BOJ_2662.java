@@ -1,3 +1,5 @@
+import lib.io.FastWriter;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -36,10 +38,12 @@ public class BOJ_2662 {
         }
 
         getResult(n, m, result, temp);
-        System.out.println(dp[n][m]);
+        FastWriter fw = new FastWriter();
+        fw.println(dp[n][m]);
         for (int i = 1; i <= m; i++) {
-            System.out.print(result[i] + " ");
+            fw.print(result[i]).print(' ');
         }
+        fw.flush();
     }
 
     private static void getResult(int n, int m, int[] result, int[][] temp) {
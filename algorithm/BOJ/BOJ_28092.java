@@ -1,3 +1,6 @@
+import lib.dsu.UnionFind;
+import lib.io.FastWriter;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -6,7 +9,9 @@ import java.util.StringTokenizer;
 
 public class BOJ_28092 {
     static int n, q;
-    static int[] parent, size;
+    static UnionFind uf;
+    // 집합마다 가장 작은 정점 번호. deleted 도 이 번호로 관리한다.
+    static int[] low;
     static boolean[] deleted;
     static PriorityQueue<Info> pq;
     private static class Info {
@@ -22,7 +27,7 @@ public class BOJ_28092 {
     public static void main(String[] args) throws IOException {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
         StringTokenizer st = new StringTokenizer(br.readLine());
-        StringBuilder sb = new StringBuilder();
+        FastWriter fw = new FastWriter();
 
         pq = new PriorityQueue<>((o1, o2) -> {
             int sizeCompare = Integer.compare(o2.size, o1.size);
@@ -34,13 +39,12 @@ public class BOJ_28092 {
 
         n = Integer.parseInt(st.nextToken());
         q = Integer.parseInt(st.nextToken());
-        parent = new int[n + 1];
-        size = new int[n + 1];
+        uf = new UnionFind(n + 1);
+        low = new int[n + 1];
         deleted = new boolean[n + 1];
 
         for (int i = 1; i <= n; i++) {
-            parent[i] = i;
-            size[i] = 1;
+            low[i] = i;
             pq.offer(new Info(i, 1));
         }
 
@@ -58,13 +62,13 @@ public class BOJ_28092 {
                     if (deleted[x]) {
                         continue;
                     }
-                    sb.append(x).append('\n');
+                    fw.println(x);
                     deleted[x] = true;
                     break;
                 }
             }
         }
-        System.out.print(sb);
+        fw.flush();
     }
 
     private static void union(int x, int y) {
@@ -82,18 +86,15 @@ public class BOJ_28092 {
                 x = y;
                 y = temp;
             }
-            parent[y] = x;
-            size[x] += size[y];
-            pq.offer(new Info(x, size[x]));
+            uf.union(x, y);
+            low[uf.find(x)] = x;
+            pq.offer(new Info(x, uf.size(x)));
         } else {
             deleted[find(x)] = true;
         }
     }
 
     private static int find(int x) {
-        if (x == parent[x]) {
-            return x;
-        }
-        return parent[x] = find(parent[x]);
+        return low[uf.find(x)];
     }
 }
@@ -1,3 +1,5 @@
+import lib.io.FastWriter;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -23,7 +25,7 @@ public class BOJ_32354 {
     public static void main(String[] args) throws IOException {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
         StringTokenizer st;
-        StringBuilder sb = new StringBuilder();
+        FastWriter fw = new FastWriter();
 
         int n = Integer.parseInt(br.readLine());
         nodes = new Node[n + 1];
@@ -55,14 +57,14 @@ public class BOJ_32354 {
                     break;
                 case "print":
                     if (now == null) {
-                        sb.append(0).append('\n');
+                        fw.println(0);
                     } else {
-                        sb.append(now.sum).append('\n');
+                        fw.println(now.sum);
                     }
                     break;
             }
             nodes[i] = now;
         }
-        System.out.print(sb);
+        fw.flush();
     }
 }
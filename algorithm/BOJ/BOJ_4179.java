@@ -1,25 +1,15 @@
+import lib.grid.GridBfs;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.util.*;
 
 public class BOJ_4179 {
     static int r, c, result;
-    static char[][] board;
-    static int[][] fire;
-    static int sx, sy;
-    static int[][] dirs = { {1, 0}, {-1, 0}, {0, 1}, {0, -1} };
-
-    static class Info {
-        int x;
-        int y;
-        int t;
-
-        public Info(int x, int y, int t) {
-            this.x = x;
-            this.y = y;
-            this.t = t;
-        }
-    }
+    // 테두리까지 포함해서 GridBfs 의 칸 번호로 편 보드. 테두리는 0 이다.
+    static char[] board;
+    static GridBfs fire;
+    static GridBfs jihun;
 
     public static void main(String[] args) throws Exception {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
@@ -27,62 +17,36 @@ public class BOJ_4179 {
 
         r = Integer.parseInt(st.nextToken());
         c = Integer.parseInt(st.nextToken());
-        board = new char[r][c];
-        fire = new int[r][c];
-        for (int i = 0; i < r; i++) {
-            Arrays.fill(fire[i], -1);
-        }
-        Queue<Info> q = new LinkedList<>();
+        fire = new GridBfs(r, c);
+        jihun = new GridBfs(r, c);
+        board = new char[fire.cells()];
 
         for (int i = 0; i < r; i++) {
             String line = br.readLine();
             for (int j = 0; j < c; j++) {
-                board[i][j] = line.charAt(j);
-                if (board[i][j] == 'F') {
-                    q.add(new Info(i, j, 0));
-                    fire[i][j] = 0;
-                } else if (board[i][j] == 'J') {
-                    sx = i; sy = j;
+                int idx = fire.index(i, j);
+                board[idx] = line.charAt(j);
+                if (board[idx] == 'F') {
+                    fire.addSource(idx);
+                } else if (board[idx] == 'J') {
+                    jihun.addSource(idx);
                 }
             }
         }
-        while (!q.isEmpty()) {
-            Info now = q.poll();
-            for (int[] dir : dirs) {
-                int nx = now.x + dir[0];
-                int ny = now.y + dir[1];
-                if (nx < 0 || ny < 0 || nx >= r || ny >= c) {
-                    continue;
-                }
-                if (fire[nx][ny] >= 0 || board[nx][ny] == '#') {
-                    continue;
-                }
-                fire[nx][ny] = now.t + 1;
-                q.offer(new Info(nx, ny, now.t + 1));
-            }
-        }
+        fire.run((from, to) -> board[to] != '#' && board[to] != 0);
 
         result = Integer.MAX_VALUE;
-        boolean[][] visited = new boolean[r][c];
-        visited[sx][sy] = true;
-        q.offer(new Info(sx, sy, 0));
-        while (!q.isEmpty()) {
-            Info now = q.poll();
-            for (int[] dir : dirs) {
-                int nx = now.x + dir[0];
-                int ny = now.y + dir[1];
-                if (nx < 0 || ny < 0 || nx >= r || ny >= c) {
-                    result = Math.min(result, now.t + 1);
-                    continue;
-                }
-                if (!visited[nx][ny] && board[nx][ny] == '.') {
-                    visited[nx][ny] = true;
-                    if (fire[nx][ny] < 0 || now.t + 1 < fire[nx][ny]) {
-                        q.offer(new Info(nx, ny, now.t + 1));
-                    }
-                }
+        jihun.run((from, to) -> {
+            int t = jihun.dist(from) + 1;
+            if (board[to] == 0) {
+                result = Math.min(result, t);
+                return false;
             }
-        }
+            if (board[to] != '.') {
+                return false;
+            }
+            return fire.dist(to) < 0 || t < fire.dist(to);
+        });
 
         if (result == Integer.MAX_VALUE) {
             System.out.println("IMPOSSIBLE");
@@ -1,81 +1,20 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.PriorityQueue;
-import java.util.StringTokenizer;
+import lib.geom.EuclideanMst;
+import lib.io.FastReader;
 
 public class BOJ_4386 {
-    static int[] parent;
-
-    static class Edge implements Comparable<Edge> {
-        int s;
-        int e;
-        double w;
-
-        public Edge(int s, int e, double w) {
-            this.s = s;
-            this.e = e;
-            this.w = w;
-        }
-
-
-        @Override
-        public int compareTo(Edge o) {
-            return Double.compare(this.w, o.w);
-        }
-    }
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        StringTokenizer st;
-        int n = Integer.parseInt(br.readLine());
-        double[][] stars = new double[n][2];
-        parent = new int[n+1];
-        for (int i = 1; i <= n; i++) {
-            parent[i] = i;
-        }
-
-        for (int i = 0; i < n; i++) {
-            st = new StringTokenizer(br.readLine());
-            stars[i][0] = Double.parseDouble(st.nextToken());
-            stars[i][1] = Double.parseDouble(st.nextToken());
-        }
+        FastReader fr = FastReader.open(args);
+        int n = fr.nextInt();
+        double[] x = new double[n];
+        double[] y = new double[n];
 
-        PriorityQueue<Edge> pq = new PriorityQueue<>();
         for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (i == j) {
-                    continue;
-                }
-                pq.offer(new Edge(i, j, Math.sqrt(Math.pow(stars[i][0] - stars[j][0], 2) + Math.pow(stars[i][1] - stars[j][1], 2))));
-            }
-        }
-        double result = 0;
-        while (!pq.isEmpty()) {
-            Edge edge = pq.poll();
-
-            if (find(edge.s) != find(edge.e)) {
-                result += edge.w;
-                union(edge.s, edge.e);
-            }
-        }
-
-        System.out.printf("%.2f", result);
-    }
-
-    public static void union(int x, int y) {
-        x = find(x);
-        y = find(y);
-
-        if (x == y) {
-            return;
+            x[i] = fr.nextDouble();
+            y[i] = fr.nextDouble();
         }
-        parent[y] = x;
-    }
 
-    public static int find(int x) {
-        if (parent[x] == x) {
-            return x;
-        }
-        return parent[x] = find(parent[x]);
+        // 들로네 간선만 후보로 보는 크루스칼
+        System.out.printf("%.2f", EuclideanMst.weight(x, y));
     }
 }
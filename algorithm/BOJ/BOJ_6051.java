@@ -1,3 +1,5 @@
+import lib.io.FastWriter;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -19,7 +21,7 @@ public class BOJ_6051 {
     public static void main(String[] args) throws IOException {
         BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
         StringTokenizer st;
-        StringBuilder sb = new StringBuilder();
+        FastWriter fw = new FastWriter();
 
         n = Integer.parseInt(br.readLine());
         nodes = new Node[n + 1];
@@ -44,11 +46,11 @@ public class BOJ_6051 {
                 }
             }
             if (now == null) {
-                sb.append(-1).append('\n');
+                fw.println(-1);
             } else {
-                sb.append(now.num).append('\n');
+                fw.println(now.num);
             }
         }
-        System.out.print(sb);
+        fw.flush();
     }
 }
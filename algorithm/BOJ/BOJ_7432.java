@@ -1,61 +1,27 @@
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.Map;
-import java.util.TreeMap;
+import lib.io.FastReader;
+import lib.io.FastWriter;
+import lib.path.PathTree;
 
 public class BOJ_7432 {
-
-    static class Node {
-        Map<String , Node> child;
-
-        private Node() {
-            child = new TreeMap<>();
-        }
-    }
-
-    static class Trie {
-        Node root;
-
-        private Trie() {
-            root = new Node();
-        }
-
-        private void insert(String str) {
-            String[] dirs = str.split("\\\\");
-            Node node = this.root;
-            for (String dir : dirs) {
-                node.child.putIfAbsent(dir, new Node());
-                node = node.child.get(dir);
-            }
-        }
-
-        private void dfs(Node node, StringBuilder sb, int depth) {
-            for (Map.Entry<String, Node> entry : node.child.entrySet()) {
-                for (int i = 0; i < depth; i++) {
-                    sb.append(' ');
-                }
-                sb.append(entry.getKey()).append('\n');
-                dfs(entry.getValue(), sb, depth + 1);
-            }
-        }
-
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder();
-            dfs(this.root, sb, 0);
-            return sb.toString();
-        }
-    }
+    // 이보다 긴 경로는 받지 않는다. nextWord 가 버퍼를 넘는 부분을 버리므로 버퍼를 한 칸 더 잡아 잘린 것을 알아챈다.
+    static final int MAX_PATH = 80;
 
     public static void main(String[] args) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-        int n = Integer.parseInt(br.readLine());
+        FastReader fr = FastReader.open(args);
+        int n = fr.nextInt();
 
-        Trie trie = new Trie();
+        PathTree tree = new PathTree('\\');
+        byte[] path = new byte[MAX_PATH + 1];
         for (int i = 0; i < n; i++) {
-            trie.insert(br.readLine());
+            int len = fr.nextWord(path);
+            if (len > MAX_PATH) {
+                throw new IllegalArgumentException("path longer than " + MAX_PATH);
+            }
+            tree.insert(path, 0, len);
         }
 
-        System.out.println(trie);
+        FastWriter fw = new FastWriter();
+        tree.write(fw);
+        fw.flush();
     }
 }
@@ -1,14 +1,18 @@
+import lib.grid.GridBfs;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.util.*;
 
 public class BOJ_9328 {
     static int h, w;
-    static char[][] board;
-    static Set<Character> keys;
-    static Map<Character, Set<Integer>> unlocked;
-    static Queue<Integer> q;
-    static int[][] dirs = { {1, 0}, {-1, 0}, {0, 1}, {0, -1} };
+    // 테두리까지 포함해서 GridBfs 의 칸 번호로 편 보드. 테두리는 빈 칸('.')으로 두고 건물 밖으로 쓴다.
+    static char[] board;
+    static GridBfs bfs;
+    static boolean[] keys;
+    // 열쇠가 없어서 막힌 문들. 열쇠마다 waitHead 에서 시작해 waitNext 로 이어지고, 목록에 없으면 -2 다.
+    static int[] waitHead;
+    static int[] waitNext;
     static int result;
 
     public static void main(String[] args) throws Exception {
@@ -21,19 +25,21 @@ public class BOJ_9328 {
             h = Integer.parseInt(st.nextToken());
             w = Integer.parseInt(st.nextToken());
 
-            board = new char[h][w];
-            keys = new HashSet<>();
+            bfs = new GridBfs(h, w);
+            board = new char[bfs.cells()];
+            Arrays.fill(board, '.');
+            keys = new boolean[26];
 
             for (int i = 0; i < h; i++) {
                 String line = br.readLine();
                 for (int j = 0; j < w; j++) {
-                    board[i][j] = line.charAt(j);
+                    board[bfs.index(i, j)] = line.charAt(j);
                 }
             }
             String key = br.readLine();
             if (!key.equals("0")) {
                 for (int i = 0; i < key.length(); i++) {
-                    keys.add(key.charAt(i));
+                    keys[key.charAt(i) - 'a'] = true;
                 }
             }
             result = 0;
@@ -44,85 +50,47 @@ public class BOJ_9328 {
     }
 
     static void bfs() {
-        unlocked = new HashMap<>();
-        q = new LinkedList<>();
-        boolean[][] visited = new boolean[h][w];
+        waitHead = new int[26];
+        Arrays.fill(waitHead, -1);
+        waitNext = new int[bfs.cells()];
+        Arrays.fill(waitNext, -2);
 
-        for (int i = 0; i < h; i++) {
-            for (int j = 0; j < w; j++) {
-                if (i == 0 || j == 0 || i == h-1 || j == w-1) {
-                    if (board[i][j] == '.') {
-                        visited[i][j] = true;
-                        q.offer(i * 100 + j);
-                    } else if (board[i][j] >= 'a' && board[i][j] <= 'z') {
-                        findKey(i, j, visited);
-                    } else if (board[i][j] >= 'A' && board[i][j] <= 'Z') {
-                        findRoom(i, j, visited);
-                    } else if (board[i][j] == '$') {
-                        visited[i][j] = true;
-                        q.offer(i * 100 + j);
-                        result++;
-                    }
-                }
-            }
-        }
-
-        while (!q.isEmpty()) {
-            int now = q.poll();
-            int x = now / 100;
-            int y = now % 100;
-            for (int[] dir : dirs) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-                if (nx < 0 || ny < 0 || nx >= h || ny >= w || visited[nx][ny] || board[nx][ny] == '*') {
-                    continue;
-                }
-                if (board[nx][ny] == '.') {
-                    visited[nx][ny] = true;
-                    q.offer(nx * 100 + ny);
-                } else if (board[nx][ny] >= 'a' && board[nx][ny] <= 'z') {
-                    findKey(nx, ny, visited);
-                } else if (board[nx][ny] >= 'A' && board[nx][ny] <= 'Z') {
-                    findRoom(nx, ny, visited);
-                } else if (board[nx][ny] == '$') {
-                    visited[nx][ny] = true;
-                    q.offer(nx * 100 + ny);
-                    result++;
-                }
-            }
-        }
+        bfs.addSource(bfs.index(-1, -1));
+        bfs.run(BOJ_9328::enter);
     }
 
-    static void findKey(int x, int y, boolean[][] visited) {
-        keys.add(board[x][y]);
-        visited[x][y] = true;
-        q.offer(x * 100 + y);
-        if (unlocked.containsKey(board[x][y])) {
-            Set<Integer> set = unlocked.get(board[x][y]);
-            for (int pos : set) {
-                visited[x][y] = true;
-                board[x][y] = '.';
-                q.offer(pos);
+    static boolean enter(int from, int to) {
+        char now = board[to];
+        if (now == '*') {
+            return false;
+        }
+        if (now >= 'A' && now <= 'Z') {
+            int k = now - 'A';
+            if (keys[k]) {
+                return true;
+            }
+            if (waitNext[to] == -2) {
+                waitNext[to] = waitHead[k];
+                waitHead[k] = to;
             }
-            unlocked.remove(board[x][y]);
+            return false;
         }
-        board[x][y] = '.';
+        if (now >= 'a' && now <= 'z') {
+            findKey(now - 'a', bfs.dist(from) + 1);
+        } else if (now == '$') {
+            result++;
+        }
+        return true;
     }
 
-    static void findRoom(int x, int y, boolean[][] visited) {
-        visited[x][y] = true;
-        if (keys.contains((char) (board[x][y] + 32))) {
-            board[x][y] = '.';
-            q.offer(x * 100 + y);
-        } else {
-            char key = (char) (board[x][y] + 32);
-            if (unlocked.containsKey(key)) {
-                unlocked.get(key).add(x * 100 + y);
-            } else {
-                Set<Integer> set = new HashSet<>();
-                set.add(x * 100 + y);
-                unlocked.put(key, set);
-            }
+    static void findKey(int k, int d) {
+        if (keys[k]) {
+            return;
+        }
+        keys[k] = true;
+        for (int door = waitHead[k]; door >= 0; door = waitNext[door]) {
+            bfs.offer(door, d);
         }
+        waitHead[k] = -1;
     }
 }
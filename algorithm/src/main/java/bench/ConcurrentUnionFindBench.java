@@ -0,0 +1,69 @@
+package bench;
+
+import lib.dsu.ConcurrentUnionFind;
+import lib.dsu.UnionFind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무작위 union size 개를 한 묶음으로 처리하는 시간. threads 를 늘려가며 확장성을 본다.
+ * sequential 은 같은 입력을 UnionFind 로 한 스레드에서 처리한 기준값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConcurrentUnionFindBench {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    int[] pairs;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        pairs = Inputs.unionOps(size, size, 0);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int sequential() {
+        UnionFind uf = new UnionFind(size + 1);
+        for (int i = 0; i < size; i++) {
+            uf.union(pairs[i * 2], pairs[i * 2 + 1]);
+        }
+        return uf.components();
+    }
+
+    @Benchmark
+    public int concurrent() {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(size + 1);
+        uf.unionAll(pairs, 0, size, pool);
+        return uf.components();
+    }
+}
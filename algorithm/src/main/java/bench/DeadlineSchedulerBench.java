@@ -0,0 +1,119 @@
+package bench;
+
+import lib.schedule.DeadlineScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_1781 의 컵라면 최대 개수 전체 시간 (입력은 이미 읽어둔 것으로 본다). 데드라인과 컵라면 수는 1 ~ n 이다.
+ * 문제 제한(N 2 * 10^5)부터 10^7 까지 본다. 우선순위 큐 방식은 10^6 까지만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DeadlineSchedulerBench {
+
+    static int[][] problems(int n) {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        int[][] p = new int[2][n];
+        for (int i = 0; i < n; i++) {
+            p[0][i] = random.nextInt(n) + 1;
+            p[1][i] = random.nextInt(n) + 1;
+        }
+        return p;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"200000", "1000000"})
+        int n;
+
+        int[][] p;
+
+        @Setup
+        public void generate() {
+            p = problems(n);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"200000", "1000000", "10000000"})
+        int n;
+
+        int[][] p;
+
+        @Setup
+        public void generate() {
+            p = problems(n);
+        }
+    }
+
+    @Benchmark
+    public long baseline(Small s) {
+        return Boj1781.solve(s.p[0], s.p[1]);
+    }
+
+    @Benchmark
+    public long scheduler(Large s) {
+        DeadlineScheduler scheduler = new DeadlineScheduler(s.n);
+        for (int i = 0; i < s.n; i++) {
+            scheduler.add(s.p[0][i], s.p[1][i]);
+        }
+        return scheduler.maxReward();
+    }
+
+    // BOJ_1781 의 구현을 그대로 옮긴 것
+    static class Boj1781 {
+        static class Problem implements Comparable<Problem> {
+            int deadline;
+            int ramenCnt;
+
+            public Problem(int deadline, int ramenCnt) {
+                this.deadline = deadline;
+                this.ramenCnt = ramenCnt;
+            }
+
+            @Override
+            public int compareTo(Problem o) {
+                return this.deadline == o.deadline ? o.ramenCnt - this.ramenCnt : this.deadline - o.deadline;
+            }
+        }
+
+        static long solve(int[] deadlines, int[] ramen) {
+            PriorityQueue<Problem> pq = new PriorityQueue<>();
+            for (int i = 0; i < deadlines.length; i++) {
+                pq.offer(new Problem(deadlines[i], ramen[i]));
+            }
+
+            long result = 0;
+            PriorityQueue<Integer> temp = new PriorityQueue<>();
+            while (!pq.isEmpty()) {
+                Problem p = pq.poll();
+                temp.offer(p.ramenCnt);
+                if (temp.size() > p.deadline) {
+                    temp.poll();
+                }
+            }
+            while (!temp.isEmpty()) {
+                result += temp.poll();
+            }
+            return result;
+        }
+    }
+}
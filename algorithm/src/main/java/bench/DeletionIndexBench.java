@@ -0,0 +1,184 @@
+package bench;
+
+import lib.text.DeletionIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_1897 의 단어 사슬 BFS 전체 시간 (사전 적재 포함). 사전의 절반은 시작 단어에서 글자를 하나씩 끼워 늘린 단어,
+ * 나머지는 길이 1 ~ 20 의 무작위 단어다 (글자 4 종류).
+ * 문제 제한(d 1000)부터 10^6 까지 본다. 모든 단어와 비교하는 방식은 10^4 까지만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DeletionIndexBench {
+    static final String START = "ab";
+
+    static String[] dictionary(int d) {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        String[] words = new String[d];
+        words[0] = START;
+        for (int i = 1; i < d; i++) {
+            if (random.nextBoolean()) {
+                String w = words[random.nextInt(i)];
+                int p = random.nextInt(w.length() + 1);
+                words[i] = w.length() >= 80 ? w : w.substring(0, p) + (char) ('a' + random.nextInt(4)) + w.substring(p);
+            } else {
+                char[] w = new char[1 + random.nextInt(20)];
+                for (int j = 0; j < w.length; j++) {
+                    w[j] = (char) ('a' + random.nextInt(4));
+                }
+                words[i] = new String(w);
+            }
+        }
+        return words;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"1000", "10000"})
+        int d;
+
+        String[] words;
+
+        @Setup
+        public void generate() {
+            words = dictionary(d);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"1000", "100000", "1000000"})
+        int d;
+
+        byte[][] words;
+
+        @Setup
+        public void generate() {
+            String[] text = dictionary(d);
+            words = new byte[d][];
+            for (int i = 0; i < d; i++) {
+                words[i] = text[i].getBytes();
+            }
+        }
+    }
+
+    @Benchmark
+    public String baseline(Small s) {
+        return new Boj1897(s.words, START).solve();
+    }
+
+    @Benchmark
+    public int index(Large s) {
+        DeletionIndex index = new DeletionIndex();
+        boolean[] visited = new boolean[s.d];
+        int[] queue = new int[s.d];
+        int tail = 0;
+        for (byte[] w : s.words) {
+            int id = index.add(w, 0, w.length);
+            if (w.length == START.length() && new String(w).equals(START)) {
+                visited[id] = true;
+                queue[tail++] = id;
+            }
+        }
+        int result = -1;
+        int[] t = {tail};
+        for (int head = 0; head < t[0]; head++) {
+            int now = queue[head];
+            if (result < 0 || index.length(now) > index.length(result)) {
+                result = now;
+            }
+            index.forEachExtension(now, next -> {
+                if (!visited[next]) {
+                    visited[next] = true;
+                    queue[t[0]++] = next;
+                }
+            });
+        }
+        return result;
+    }
+
+    // BOJ_1897 의 구현을 그대로 옮긴 것 (사전은 이미 읽어둔 것으로 본다)
+    static class Boj1897 {
+        String[] words;
+        boolean[] visited;
+        Queue<Integer> q;
+        String result;
+
+        Boj1897(String[] words, String start) {
+            this.words = words;
+            visited = new boolean[words.length];
+            q = new LinkedList<>();
+            for (int i = 0; i < words.length; i++) {
+                if (words[i].equals(start)) {
+                    visited[i] = true;
+                    q.offer(i);
+                }
+            }
+        }
+
+        String solve() {
+            result = "";
+            bfs();
+            return result;
+        }
+
+        private void bfs() {
+            while (!q.isEmpty()) {
+                int now = q.poll();
+                if (words[now].length() > result.length()) {
+                    result = words[now];
+                }
+                for (int i = 0; i < words.length; i++) {
+                    if (visited[i]) {
+                        continue;
+                    }
+                    if (compare(words[now], words[i])) {
+                        q.offer(i);
+                        visited[i] = true;
+                    }
+                }
+            }
+        }
+
+        private static boolean compare(String from, String to) {
+            if (from.length() + 1 != to.length()) {
+                return false;
+            }
+            boolean flag = true;
+            for (int i = 0, j = 0; i < from.length() && j < to.length();) {
+                if (from.charAt(i) != to.charAt(j)) {
+                    j++;
+                    if (flag) {
+                        flag = false;
+                    }
+                    else {
+                        return false;
+                    }
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package bench;
+
+import lib.graph.DensePrim;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_16398 의 완전 그래프 MST 전체 시간.
+ * 문제 제한(n 1000)부터 n = 10^4 까지 본다. 간선 리스트 방식은 n^2 개의 객체가 필요해서 3000 까지만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DensePrimBench {
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"1000", "3000"})
+        int size;
+
+        int[] matrix;
+
+        @Setup
+        public void generate() {
+            matrix = Inputs.matrix(size, 100_000_000);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"1000", "3000", "10000"})
+        int size;
+
+        @Param({"1", "4"})
+        int threads;
+
+        int[] matrix;
+        ForkJoinPool pool;
+
+        @Setup
+        public void generate() {
+            matrix = Inputs.matrix(size, 100_000_000);
+            pool = new ForkJoinPool(threads);
+        }
+    }
+
+    @Benchmark
+    public long baseline(Small s) {
+        return Boj16398.mst(s.matrix, s.size);
+    }
+
+    @Benchmark
+    public long prim(Large s) {
+        return DensePrim.weight(s.matrix, s.size, s.pool);
+    }
+
+    // BOJ_16398 의 구현을 그대로 옮긴 것 (행렬은 이미 읽어둔 것으로 본다)
+    static class Boj16398 {
+        static class Edge implements Comparable<Edge> {
+            int s;
+            int e;
+            int w;
+
+            public Edge(int s, int e, int w) {
+                this.s = s;
+                this.e = e;
+                this.w = w;
+            }
+
+            @Override
+            public int compareTo(Edge o) {
+                return this.w - o.w;
+            }
+        }
+
+        static long mst(int[] matrix, int n) {
+            ArrayList<Edge> edges = new ArrayList<>();
+            int[] parent = new int[n + 1];
+            for (int i = 1; i <= n; i++) {
+                parent[i] = i;
+            }
+            for (int i = 1; i <= n; i++) {
+                for (int j = 1; j <= n; j++) {
+                    int w = matrix[(i - 1) * n + j - 1];
+                    if (i != j) {
+                        edges.add(new Edge(i, j, w));
+                    }
+                }
+            }
+            Collections.sort(edges);
+            long result = 0;
+            for (Edge edge : edges) {
+                if (find(parent, edge.s) != find(parent, edge.e)) {
+                    result += edge.w;
+                    union(parent, edge.s, edge.e);
+                }
+            }
+            return result;
+        }
+
+        static void union(int[] parent, int x, int y) {
+            x = find(parent, x);
+            y = find(parent, y);
+            if (x != y) {
+                parent[y] = x;
+            }
+        }
+
+        static int find(int[] parent, int x) {
+            if (parent[x] == x) {
+                return x;
+            }
+            return parent[x] = find(parent, parent[x]);
+        }
+    }
+}
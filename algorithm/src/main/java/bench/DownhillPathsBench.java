@@ -0,0 +1,143 @@
+package bench;
+
+import lib.grid.DownhillPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_1520 의 내리막 경로 수 세기. 높이는 무작위 (1 ~ 10000) 와 지그재그로 계속 낮아지는 지형 두 가지다.
+ * 문제 제한(500 x 500)부터 5000 x 5000 까지 본다. 재귀 방식은 지그재그 지형에서 깊이가 칸 수만큼 되어 500 까지만 잰다.
+ * batch 는 색인 하나에 무작위 (출발, 도착) 쌍 1000 개를 묻는다. 지그재그 지형에서는 질의마다 사이 구간을 다 훑어야 해서 2000 까지만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss256m"})
+public class DownhillPathsBench {
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"500"})
+        int size;
+
+        @Param({"false", "true"})
+        boolean snake;
+
+        int[] heights;
+
+        @Setup
+        public void generate() {
+            heights = Inputs.terrain(size, size, 10_000, snake);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"500", "2000", "5000"})
+        int size;
+
+        @Param({"false", "true"})
+        boolean snake;
+
+        int[] heights;
+
+        @Setup
+        public void generate() {
+            heights = Inputs.terrain(size, size, 10_000, snake);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Batch {
+        @Param({"500", "2000"})
+        int size;
+
+        @Param({"false", "true"})
+        boolean snake;
+
+        DownhillPaths index;
+        int[] pairs;
+        long[] out;
+
+        @Setup
+        public void generate() {
+            index = new DownhillPaths(Inputs.terrain(size, size, 10_000, snake), size, size);
+            pairs = Inputs.pairs(1000, size * size);
+            out = new long[1000];
+        }
+    }
+
+    @Benchmark
+    public int baseline(Small s) {
+        return new Boj1520(s.heights, s.size, s.size).solve();
+    }
+
+    @Benchmark
+    public long sweep(Large s) {
+        return new DownhillPaths(s.heights, s.size, s.size).count(0, s.size * s.size - 1);
+    }
+
+    @Benchmark
+    public long[] batch(Batch s) {
+        s.index.counts(s.pairs, 0, 1000, s.out);
+        return s.out;
+    }
+
+    // BOJ_1520 의 구현을 그대로 옮긴 것 (격자는 이미 읽어둔 것으로 본다)
+    static class Boj1520 {
+        int n, m;
+        int[][] graph;
+        int[][] result;
+        int[][] dirs = { {1, 0}, {-1, 0}, {0, 1}, {0, -1} };
+
+        Boj1520(int[] heights, int n, int m) {
+            this.n = n;
+            this.m = m;
+            graph = new int[n][m];
+            result = new int[n][m];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < m; j++) {
+                    graph[i][j] = heights[i * m + j];
+                    result[i][j] = -1;
+                }
+            }
+        }
+
+        int solve() {
+            return dfs(0, 0);
+        }
+
+        int dfs(int x, int y) {
+            if (x == n-1 && y == m-1) {
+                return 1;
+            }
+
+            if (result[x][y] == -1) {
+                result[x][y] = 0;
+                for (int[] dir : dirs) {
+                    int nx = x + dir[0];
+                    int ny = y + dir[1];
+                    if (nx < 0 || ny < 0 || nx >= n || ny >= m) {
+                        continue;
+                    }
+                    if (graph[x][y] > graph[nx][ny]) {
+                        result[x][y] += dfs(nx, ny);
+                    }
+                }
+            }
+            return result[x][y];
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package bench;
+
+import lib.tree.HeavyLight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_1240 트리에서 간선 가중치 갱신과 거리 질의를 섞은 연산 하나의 평균 시간.
+ * updateRatio 비율만큼이 갱신이고 나머지는 거리 질의다. baseline 은 인접 리스트의 가중치를 고치고 질의마다 BFS 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DynamicTreeBench {
+    static final int OPS = 1 << 20;
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Param({"0.1", "0.5"})
+    double updateRatio;
+
+    int[][] edges;
+    // 연산 i: kind[i] 가 true 면 a[i] 번 간선을 b[i] 로 갱신, 아니면 a[i] - b[i] 거리 질의
+    boolean[] kind;
+    int[] a;
+    int[] b;
+    ArrayList<TreeDistanceBench.Boj1240.Info>[] graph;
+    HeavyLight hld;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        edges = Inputs.tree(size, 10000);
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        kind = new boolean[OPS];
+        a = new int[OPS];
+        b = new int[OPS];
+        for (int i = 0; i < OPS; i++) {
+            kind[i] = random.nextDouble() < updateRatio;
+            if (kind[i]) {
+                a[i] = random.nextInt(size - 1);
+                b[i] = random.nextInt(10000) + 1;
+            } else {
+                a[i] = random.nextInt(size);
+                b[i] = random.nextInt(size);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        graph = TreeDistanceBench.Boj1240.graph(size, edges);
+        hld = new HeavyLight(size, edges[0], edges[1], edges[2]);
+        cursor = 0;
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (i + 1) & (OPS - 1);
+        return i;
+    }
+
+    @Benchmark
+    public long baseline() {
+        int i = next();
+        if (kind[i]) {
+            int e = a[i];
+            setWeight(edges[0][e], edges[1][e], b[i]);
+            setWeight(edges[1][e], edges[0][e], b[i]);
+            return 0;
+        }
+        return TreeDistanceBench.Boj1240.bfs(graph, size, a[i], b[i]);
+    }
+
+    private void setWeight(int from, int to, int w) {
+        for (TreeDistanceBench.Boj1240.Info info : graph[from]) {
+            if (info.node == to) {
+                info.w = w;
+                return;
+            }
+        }
+    }
+
+    @Benchmark
+    public long heavyLight() {
+        int i = next();
+        if (kind[i]) {
+            hld.updateEdge(a[i], b[i]);
+            return 0;
+        }
+        return hld.distance(a[i], b[i]);
+    }
+}
@@ -0,0 +1,51 @@
+package bench;
+
+import lib.geom.EuclideanMst;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 들로네 후보 간선 위의 크루스칼을 전체 간선 방식이 못 버티는 크기 (10^5 ~ 10^6 개) 에서 잰다.
+ * 같은 크기에서 비교는 KruskalBench 에 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EuclideanMstBench {
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    double[] x;
+    double[] y;
+
+    @Setup
+    public void generate() {
+        double[][] stars = Inputs.points(size, 10000);
+        x = new double[size];
+        y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = stars[i][0];
+            y[i] = stars[i][1];
+        }
+    }
+
+    @Benchmark
+    public double delaunay() {
+        return EuclideanMst.weight(x, y);
+    }
+}
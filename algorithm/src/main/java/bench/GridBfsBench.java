@@ -0,0 +1,89 @@
+package bench;
+
+import lib.grid.GridBfs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * size x size 격자(벽 20%)에서 한 칸을 시작으로 닿는 칸을 모두 도는 BFS.
+ * baseline 은 기존 풀이들처럼 LinkedList&lt;Integer&gt; 와 dirs 배열을 쓰되,
+ * x * 100 + y 로는 100 열을 넘길 수 없어서 x * size + y 로 묶는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GridBfsBench {
+
+    @Param({"1000", "3000", "10000"})
+    int size;
+
+    char[][] board;
+    char[] flat;
+    GridBfs bfs;
+
+    @Setup
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        board = new char[size][size];
+        bfs = new GridBfs(size, size);
+        flat = new char[bfs.cells()];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                board[i][j] = random.nextInt(5) == 0 ? '#' : '.';
+                flat[bfs.index(i, j)] = board[i][j];
+            }
+        }
+        board[0][0] = '.';
+        flat[bfs.index(0, 0)] = '.';
+    }
+
+    @Benchmark
+    public int baseline() {
+        int[][] dirs = { {1, 0}, {-1, 0}, {0, 1}, {0, -1} };
+        boolean[][] visited = new boolean[size][size];
+        Queue<Integer> q = new LinkedList<>();
+        q.offer(0);
+        visited[0][0] = true;
+        int count = 0;
+        while (!q.isEmpty()) {
+            int now = q.poll();
+            int x = now / size;
+            int y = now % size;
+            count++;
+            for (int[] dir : dirs) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0 || ny < 0 || nx >= size || ny >= size || visited[nx][ny] || board[nx][ny] == '#') {
+                    continue;
+                }
+                visited[nx][ny] = true;
+                q.offer(nx * size + ny);
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int engine() {
+        bfs.clear();
+        bfs.addSource(bfs.index(0, 0));
+        return bfs.run((from, to) -> flat[to] == '.');
+    }
+}
@@ -0,0 +1,87 @@
+package bench;
+
+import lib.merge.HuffmanMerge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_13975 의 테스트 케이스 여러 개를 합치는 전체 시간 (입력은 이미 읽어둔 것으로 본다). 파일 크기는 1 ~ 10^4 이다.
+ * 파일 수 합이 같도록 케이스 수를 10^7 / k 로 잡아서 작은 케이스가 많을 때와 큰 케이스 하나일 때를 같이 본다.
+ * -prof gc 를 붙이면 arena 의 케이스당 할당이 0 인 것을 볼 수 있다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HuffmanMergeBench {
+    static final int TOTAL = 10_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Cases {
+        @Param({"100", "10000", "1000000", "10000000"})
+        int k;
+
+        long[] sizes;
+        HuffmanMerge arena;
+
+        @Setup
+        public void generate() {
+            SplittableRandom random = new SplittableRandom(Inputs.SEED);
+            sizes = new long[TOTAL];
+            for (int i = 0; i < TOTAL; i++) {
+                sizes[i] = random.nextInt(10_000) + 1;
+            }
+            arena = new HuffmanMerge(k);
+        }
+    }
+
+    @Benchmark
+    public long baseline(Cases s) {
+        long sum = 0;
+        for (int from = 0; from < TOTAL; from += s.k) {
+            PriorityQueue<Long> pq = new PriorityQueue<>();
+            for (int i = from; i < from + s.k; i++) {
+                pq.offer(s.sizes[i]);
+            }
+            long result = 0;
+            while (true) {
+                long p1 = pq.poll();
+                if (pq.isEmpty()) {
+                    break;
+                }
+                long p2 = pq.poll();
+                result += p1 + p2;
+                pq.offer(p1 + p2);
+            }
+            sum += result;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arena(Cases s) {
+        long sum = 0;
+        for (int from = 0; from < TOTAL; from += s.k) {
+            s.arena.clear();
+            for (int i = from; i < from + s.k; i++) {
+                s.arena.add(s.sizes[i]);
+            }
+            sum += s.arena.cost();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,166 @@
+package bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 입력 생성기. 같은 seed 면 항상 같은 입력이 나온다.
+ */
+public final class Inputs {
+    public static final long SEED = 20250213L;
+
+    private Inputs() {
+    }
+
+    // BOJ_18116 형식의 연산열. ops[2i], ops[2i+1] 이 한 쌍이고 a == 0 이면 b 에 대한 질의다.
+    public static int[] unionOps(int n, int maxId, double queryRatio) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] ops = new int[n * 2];
+        for (int i = 0; i < n; i++) {
+            if (random.nextDouble() < queryRatio) {
+                ops[i * 2] = 0;
+            } else {
+                ops[i * 2] = random.nextInt(maxId) + 1;
+            }
+            ops[i * 2 + 1] = random.nextInt(maxId) + 1;
+        }
+        return ops;
+    }
+
+    // 1-2, 2-3, ... 처럼 한 줄로 이어지는 최악의 합치기 순서
+    public static int[] chainOps(int n) {
+        int[] ops = new int[(n - 1) * 2];
+        for (int i = 1; i < n; i++) {
+            ops[(i - 1) * 2] = i + 1;
+            ops[(i - 1) * 2 + 1] = i;
+        }
+        return ops;
+    }
+
+    // 접두사를 공유하는 단어들. 앞부분은 좁은 알파벳으로 만들어 트라이가 깊게 겹치게 한다.
+    public static String[] words(int n, int minLen, int maxLen, int alphabet) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] words = new String[n];
+        char[] buf = new char[maxLen];
+        for (int i = 0; i < n; i++) {
+            int len = minLen + random.nextInt(maxLen - minLen + 1);
+            for (int j = 0; j < len; j++) {
+                int range = j < 3 ? Math.min(alphabet, 4) : alphabet;
+                buf[j] = (char) ('a' + random.nextInt(range));
+            }
+            words[i] = new String(buf, 0, len);
+        }
+        return words;
+    }
+
+    public static String[] digitWords(int n, int minLen, int maxLen) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] words = new String[n];
+        char[] buf = new char[maxLen];
+        for (int i = 0; i < n; i++) {
+            int len = minLen + random.nextInt(maxLen - minLen + 1);
+            for (int j = 0; j < len; j++) {
+                buf[j] = (char) ('0' + random.nextInt(10));
+            }
+            words[i] = new String(buf, 0, len);
+        }
+        return words;
+    }
+
+    // BOJ_4386 형식의 별 좌표. 소수 둘째 자리까지의 값을 쓴다.
+    public static double[][] points(int n, double range) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[][] points = new double[n][2];
+        for (int i = 0; i < n; i++) {
+            points[i][0] = Math.round(random.nextDouble() * range * 100) / 100.0;
+            points[i][1] = Math.round(random.nextDouble() * range * 100) / 100.0;
+        }
+        return points;
+    }
+
+    // BOJ_7432 형식의 경로. 깊이마다 이름 후보를 fanOut 개로 제한해서 디렉토리가 많이 겹치게 한다.
+    public static String[] paths(int n, int maxDepth, int fanOut) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] paths = new String[n];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            sb.setLength(0);
+            int depth = 1 + random.nextInt(maxDepth);
+            for (int d = 0; d < depth; d++) {
+                if (d > 0) {
+                    sb.append('\\');
+                }
+                int k = random.nextInt(fanOut);
+                sb.append((char) ('A' + k % 26)).append("DIR").append(k);
+            }
+            paths[i] = sb.toString();
+        }
+        return paths;
+    }
+
+    // BOJ_16398 형식의 대칭 인접 행렬을 n * n int 배열 하나로. 대각선은 0 이다.
+    public static int[] matrix(int n, int bound) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] matrix = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int w = random.nextInt(bound) + 1;
+                matrix[i * n + j] = w;
+                matrix[j * n + i] = w;
+            }
+        }
+        return matrix;
+    }
+
+    // 정점 0 ~ n-1 의 무작위 가중치 트리. 간선 i 는 edges[0][i] - edges[1][i] 이고 가중치는 edges[2][i] 다.
+    // 부모를 가까운 번호에서 많이 골라서 깊은 경로도 생긴다.
+    public static int[][] tree(int n, int maxWeight) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[][] edges = new int[3][n - 1];
+        for (int v = 1; v < n; v++) {
+            int p = random.nextBoolean() ? Math.max(0, v - 1 - random.nextInt(4)) : random.nextInt(v);
+            edges[0][v - 1] = p;
+            edges[1][v - 1] = v;
+            edges[2][v - 1] = random.nextInt(maxWeight) + 1;
+        }
+        return edges;
+    }
+
+    // 0 ~ bound-1 사이 정점 쌍 n 개. pairs[2i], pairs[2i+1] 이 한 쌍이다.
+    public static int[] pairs(int n, int bound) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        int[] pairs = new int[n * 2];
+        for (int i = 0; i < n * 2; i++) {
+            pairs[i] = random.nextInt(bound);
+        }
+        return pairs;
+    }
+
+    // BOJ_1520 형식의 높이 격자를 r * cols + c 순서로. snake 면 지그재그로 한 칸씩 낮아져서 내리막 경로가 모든 칸을 지난다.
+    public static int[] terrain(int rows, int cols, int bound, boolean snake) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] heights = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int step = r * cols + (r % 2 == 0 ? c : cols - 1 - c);
+                heights[r * cols + c] = snake ? rows * cols - step : random.nextInt(bound) + 1;
+            }
+        }
+        return heights;
+    }
+
+    // 한 줄에 정수 perLine 개씩 들어있는 텍스트 입력
+    public static byte[] intLines(int lines, int perLine, int bound) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            for (int j = 0; j < perLine; j++) {
+                if (j > 0) {
+                    sb.append(' ');
+                }
+                sb.append(random.nextInt(bound) + 1);
+            }
+            sb.append('\n');
+        }
+        return sb.toString().getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,92 @@
+package bench;
+
+import lib.grid.KeywordIndex;
+import lib.grid.LetterBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 글자판에 단어 여러 개를 물어보는 전체 시간 (색인 만들기 포함). 글자는 26 종류, K 는 5 이다.
+ * 단어는 stems 개의 어간 (길이 10 ~ 40) 에 0 ~ 10 글자를 붙여 만들어서 같은 단어와 앞부분이 겹치는 단어가 섞여 있다.
+ * 단어마다 LetterBoard 로 판 전체를 도는 것과 KeywordIndex 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KeywordIndexBench {
+    private static final int K = 5;
+
+    @Param({"100", "1000"})
+    int size;
+
+    @Param({"100", "1000"})
+    int keywords;
+
+    @Param({"100"})
+    int stems;
+
+    byte[] cells;
+    byte[][] words;
+
+    @Setup
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        cells = new byte[size * size];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (byte) ('A' + random.nextInt(26));
+        }
+        byte[][] roots = new byte[stems][];
+        for (int i = 0; i < stems; i++) {
+            roots[i] = new byte[10 + random.nextInt(31)];
+            for (int j = 0; j < roots[i].length; j++) {
+                roots[i][j] = (byte) ('A' + random.nextInt(26));
+            }
+        }
+        words = new byte[keywords][];
+        for (int i = 0; i < keywords; i++) {
+            byte[] root = roots[random.nextInt(stems)];
+            byte[] word = new byte[root.length + random.nextInt(11)];
+            System.arraycopy(root, 0, word, 0, root.length);
+            for (int j = root.length; j < word.length; j++) {
+                word[j] = (byte) ('A' + random.nextInt(26));
+            }
+            words[i] = word;
+        }
+    }
+
+    @Benchmark
+    public long letterBoard() {
+        LetterBoard board = new LetterBoard(cells, size, size, K, ForkJoinPool.commonPool());
+        long total = 0;
+        for (byte[] word : words) {
+            total += board.count(word, 0, word.length);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long keywordIndex() {
+        KeywordIndex index = new KeywordIndex(cells, size, size, K);
+        long total = 0;
+        for (byte[] word : words) {
+            total += index.count(word, 0, word.length);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,120 @@
+package bench;
+
+import lib.geom.EuclideanMst;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_4386 의 PriorityQueue&lt;Edge&gt; 크루스칼을 별 n 개 전체 풀이 단위로 잰다.
+ * 문제 제한(n 100)부터 100 배까지 늘려본다. n = 10^4 이면 간선이 5 * 10^7 개라 힙이 크게 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class KruskalBench {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    double[][] stars;
+    double[] x;
+    double[] y;
+
+    @Setup
+    public void generate() {
+        stars = Inputs.points(size, 1000);
+        x = new double[size];
+        y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = stars[i][0];
+            y[i] = stars[i][1];
+        }
+    }
+
+    @Benchmark
+    public double baseline() {
+        return Boj4386.mst(stars);
+    }
+
+    @Benchmark
+    public double delaunay() {
+        return EuclideanMst.weight(x, y);
+    }
+
+    // BOJ_4386 의 구현을 그대로 옮긴 것
+    static class Boj4386 {
+        static class Edge implements Comparable<Edge> {
+            int s;
+            int e;
+            double w;
+
+            public Edge(int s, int e, double w) {
+                this.s = s;
+                this.e = e;
+                this.w = w;
+            }
+
+            @Override
+            public int compareTo(Edge o) {
+                return Double.compare(this.w, o.w);
+            }
+        }
+
+        static double mst(double[][] stars) {
+            int n = stars.length;
+            int[] parent = new int[n + 1];
+            for (int i = 1; i <= n; i++) {
+                parent[i] = i;
+            }
+
+            PriorityQueue<Edge> pq = new PriorityQueue<>();
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    pq.offer(new Edge(i, j, Math.sqrt(Math.pow(stars[i][0] - stars[j][0], 2) + Math.pow(stars[i][1] - stars[j][1], 2))));
+                }
+            }
+            double result = 0;
+            while (!pq.isEmpty()) {
+                Edge edge = pq.poll();
+
+                if (find(parent, edge.s) != find(parent, edge.e)) {
+                    result += edge.w;
+                    union(parent, edge.s, edge.e);
+                }
+            }
+            return result;
+        }
+
+        static void union(int[] parent, int x, int y) {
+            x = find(parent, x);
+            y = find(parent, y);
+
+            if (x == y) {
+                return;
+            }
+            parent[y] = x;
+        }
+
+        static int find(int[] parent, int x) {
+            if (parent[x] == x) {
+                return x;
+            }
+            return parent[x] = find(parent, parent[x]);
+        }
+    }
+}
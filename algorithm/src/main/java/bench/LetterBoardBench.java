@@ -0,0 +1,136 @@
+package bench;
+
+import lib.grid.LetterBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_2186 의 경로 수 세기 전체 시간. 글자는 4 종류, 단어 길이는 80 (문제 최대) 이다.
+ * 문제 제한(100 x 100, K 5)부터 1000 x 1000 까지 늘리고, 누적합 방식이 k 에 무관한지 K 50 도 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss64m"})
+public class LetterBoardBench {
+
+    @Param({"100", "1000"})
+    int size;
+
+    @Param({"5", "50"})
+    int k;
+
+    @Param({"1", "4"})
+    int threads;
+
+    char[][] board;
+    String keyword;
+    byte[] cells;
+    byte[] keywordBytes;
+    LetterBoard letterBoard;
+
+    @Setup
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        board = new char[size][size];
+        cells = new byte[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                board[i][j] = (char) ('A' + random.nextInt(4));
+                cells[i * size + j] = (byte) board[i][j];
+            }
+        }
+        char[] word = new char[80];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('A' + random.nextInt(4));
+        }
+        keyword = new String(word);
+        keywordBytes = keyword.getBytes();
+        letterBoard = new LetterBoard(cells, size, size, k, new ForkJoinPool(threads));
+    }
+
+    @Benchmark
+    public int baseline() {
+        return new Boj2186(board, k, keyword).solve();
+    }
+
+    @Benchmark
+    public long layers() {
+        return letterBoard.count(keywordBytes, 0, keywordBytes.length);
+    }
+
+    // BOJ_2186 의 구현을 그대로 옮긴 것
+    static class Boj2186 {
+        int n, m, k;
+        String keyword;
+        char[][] board;
+        int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        int[][][] dp;
+        int result;
+
+        Boj2186(char[][] board, int k, String keyword) {
+            this.board = board;
+            this.n = board.length;
+            this.m = board[0].length;
+            this.k = k;
+            this.keyword = keyword;
+        }
+
+        int solve() {
+            dp = new int[n][m][keyword.length() + 1];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < m; j++) {
+                    Arrays.fill(dp[i][j], -1);
+                }
+            }
+
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < m; j++) {
+                    if (board[i][j] == keyword.charAt(0)) {
+                        result += dfs(1, i, j);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private int dfs(int depth, int x, int y) {
+            if (dp[x][y][depth] != -1) {
+                return dp[x][y][depth];
+            }
+            if (depth == keyword.length()) {
+                return dp[x][y][depth] = 1;
+            }
+            dp[x][y][depth] = 0;
+            for (int i = 1; i <= k; i++) {
+                for (int[] dir : dirs) {
+                    int nx = x + dir[0] * i;
+                    int ny = y + dir[1] * i;
+                    if (nx < 0 || ny < 0 || nx >= n || ny >= m) {
+                        continue;
+                    }
+                    if (board[nx][ny] == keyword.charAt(depth)) {
+                        dp[x][y][depth] += dfs(depth + 1, nx, ny);
+                    }
+                }
+            }
+            return dp[x][y][depth];
+        }
+    }
+}
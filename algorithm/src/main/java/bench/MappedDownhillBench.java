@@ -0,0 +1,94 @@
+package bench;
+
+import lib.grid.DownhillPaths;
+import lib.grid.MappedDownhill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 높이 격자를 파일로 두고 세는 MappedDownhill 과 힙에 올려 세는 DownhillPaths 의 비교. 질의는 (0, 0) 에서 오른쪽 아래 칸까지다.
+ * mapped 는 band 정렬과 질의 하나, mappedCount 는 미리 만들어 둔 order 파일로 질의만 잰다.
+ * band 하나는 2^20 칸 (버퍼 약 32MB) 이라 격자가 커져도 힙 사용량은 그대로다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MappedDownhillBench {
+
+    @Param({"2000", "5000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean snake;
+
+    int[] heights;
+    Path file;
+    Path order;
+    Path scratch;
+    MappedDownhill prebuilt;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        heights = Inputs.terrain(size, size, 10_000, snake);
+        file = Files.createTempFile("downhill-heights", ".bin");
+        order = Files.createTempFile("downhill-order", ".bin");
+        scratch = Files.createTempFile("downhill-scratch", ".bin");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            for (int h : heights) {
+                out.writeInt(h);
+            }
+        }
+        prebuilt = MappedDownhill.build(file, size, size, order, scratch);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        prebuilt.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(order);
+        Files.deleteIfExists(scratch);
+    }
+
+    @Benchmark
+    public long inHeap() {
+        return new DownhillPaths(heights, size, size).count(0, size * size - 1);
+    }
+
+    @Benchmark
+    public long mapped() throws IOException {
+        Path o = Files.createTempFile("downhill-order", ".bin");
+        Path s = Files.createTempFile("downhill-scratch", ".bin");
+        try (MappedDownhill downhill = MappedDownhill.build(file, size, size, o, s)) {
+            return downhill.count(0, (long) size * size - 1);
+        } finally {
+            Files.deleteIfExists(o);
+            Files.deleteIfExists(s);
+        }
+    }
+
+    @Benchmark
+    public long mappedCount() {
+        return prebuilt.count(0, (long) size * size - 1);
+    }
+}
@@ -0,0 +1,116 @@
+package bench;
+
+import lib.io.FastWriter;
+import lib.path.PathTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_7432 의 경로 n 개를 넣고 디렉토리 트리를 출력하기까지 전체 시간.
+ * 문제 제한(N 500)부터 10^6 개까지 늘려본다. 출력은 버리는 스트림/채널로 보낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PathTreeBench {
+
+    @Param({"500", "50000", "1000000"})
+    int size;
+
+    String[] paths;
+    byte[][] pathBytes;
+
+    @Setup
+    public void generate() {
+        paths = Inputs.paths(size, 8, 40);
+        pathBytes = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            pathBytes[i] = paths[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Benchmark
+    public void treeMap() {
+        Boj7432.Trie trie = new Boj7432.Trie();
+        for (String p : paths) {
+            trie.insert(p);
+        }
+        new PrintStream(OutputStream.nullOutputStream()).println(trie);
+    }
+
+    @Benchmark
+    public void pathTree() throws IOException {
+        PathTree tree = new PathTree('\\');
+        for (byte[] p : pathBytes) {
+            tree.insert(p, 0, p.length);
+        }
+        FastWriter fw = new FastWriter(new WriterBench.NullChannel());
+        tree.write(fw);
+        fw.flush();
+    }
+
+    // BOJ_7432 의 구현을 그대로 옮긴 것
+    static class Boj7432 {
+        static class Node {
+            Map<String, Node> child;
+
+            private Node() {
+                child = new TreeMap<>();
+            }
+        }
+
+        static class Trie {
+            Node root;
+
+            Trie() {
+                root = new Node();
+            }
+
+            void insert(String str) {
+                String[] dirs = str.split("\\\\");
+                Node node = this.root;
+                for (String dir : dirs) {
+                    node.child.putIfAbsent(dir, new Node());
+                    node = node.child.get(dir);
+                }
+            }
+
+            private void dfs(Node node, StringBuilder sb, int depth) {
+                for (Map.Entry<String, Node> entry : node.child.entrySet()) {
+                    for (int i = 0; i < depth; i++) {
+                        sb.append(' ');
+                    }
+                    sb.append(entry.getKey()).append('\n');
+                    dfs(entry.getValue(), sb, depth + 1);
+                }
+            }
+
+            @Override
+            public String toString() {
+                StringBuilder sb = new StringBuilder();
+                dfs(this.root, sb, 0);
+                return sb.toString();
+            }
+        }
+    }
+}
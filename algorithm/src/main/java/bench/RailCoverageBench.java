@@ -0,0 +1,93 @@
+package bench;
+
+import lib.interval.RailCoverage;
+import lib.interval.RailSweep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사람 하나가 나가고 다른 사람이 들어올 때마다 BOJ_13334 의 답을 다시 구하는 시간 (변경 하나당).
+ * 처음에는 RailSweepBench 와 같은 사람 n 명 중 앞의 절반이 있고, 변경마다 한 명을 빼고 뒤쪽 절반에서 한 명을 넣는다.
+ * sweep 은 변경마다 RailSweep 을 다시 만들고, coverage 는 RailCoverage 를 갱신만 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RailCoverageBench {
+    static final long D = 500_000;
+
+    @State(Scope.Benchmark)
+    public static class Commuters {
+        @Param({"10000", "100000", "1000000"})
+        int n;
+
+        int[][] c;
+        // 지금 있는 사람 번호들. active[cursor] 를 빼고 그 자리에 새 사람을 넣는다.
+        int[] active;
+        int[] h;
+        int[] o;
+        int cursor;
+        int next;
+        RailCoverage coverage;
+
+        @Setup
+        public void generate() {
+            c = RailSweepBench.commuters(n);
+            int[] coords = new int[2 * n];
+            System.arraycopy(c[0], 0, coords, 0, n);
+            System.arraycopy(c[1], 0, coords, n, n);
+            coverage = new RailCoverage(coords, new long[]{D});
+            active = new int[n / 2];
+            h = new int[n / 2];
+            o = new int[n / 2];
+            for (int i = 0; i < n / 2; i++) {
+                active[i] = i;
+                h[i] = c[0][i];
+                o[i] = c[1][i];
+                coverage.addCommuter(c[0][i], c[1][i]);
+            }
+            next = n / 2;
+        }
+
+        // 한 명을 바꾸고 빠진 사람, 들어온 사람 번호를 돌려준다.
+        long swap() {
+            int out = active[cursor];
+            int in = next;
+            active[cursor] = in;
+            h[cursor] = c[0][in];
+            o[cursor] = c[1][in];
+            cursor = cursor + 1 == active.length ? 0 : cursor + 1;
+            next = next + 1 == n ? 0 : next + 1;
+            return (long) out << 32 | in;
+        }
+    }
+
+    @Benchmark
+    public int sweep(Commuters s) {
+        s.swap();
+        return new RailSweep(s.h, s.o, s.h.length).best(D);
+    }
+
+    @Benchmark
+    public int coverage(Commuters s) {
+        long change = s.swap();
+        int out = (int) (change >>> 32);
+        int in = (int) change;
+        s.coverage.removeCommuter(s.c[0][out], s.c[1][out]);
+        s.coverage.addCommuter(s.c[0][in], s.c[1][in]);
+        return s.coverage.bestCoverage(D);
+    }
+}
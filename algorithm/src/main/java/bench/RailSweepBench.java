@@ -0,0 +1,142 @@
+package bench;
+
+import lib.interval.RailSweep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_13334 를 d 여러 개에 대해 답하는 전체 시간 (정렬 포함). 사람마다 집은 -10^8 ~ 10^8, 통근 거리는 10^6 이하다.
+ * 문제 제한(n 10^5)부터 10^7 까지 본다. 우선순위 큐 방식은 d 마다 처음부터 다시 돌고 10^6 까지만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RailSweepBench {
+
+    static int[][] commuters(int n) {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        int[][] c = new int[2][n];
+        for (int i = 0; i < n; i++) {
+            c[0][i] = random.nextInt(200_000_001) - 100_000_000;
+            c[1][i] = c[0][i] + random.nextInt(2_000_001) - 1_000_000;
+        }
+        return c;
+    }
+
+    static long[] lengths(int queries) {
+        long[] ds = new long[queries];
+        for (int k = 0; k < queries; k++) {
+            ds[k] = 1_000_000L * (k + 1) / queries;
+        }
+        return ds;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"100000", "1000000"})
+        int n;
+
+        @Param({"1", "16"})
+        int queries;
+
+        int[][] c;
+        long[] ds;
+
+        @Setup
+        public void generate() {
+            c = commuters(n);
+            ds = lengths(queries);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"100000", "1000000", "10000000"})
+        int n;
+
+        @Param({"1", "16"})
+        int queries;
+
+        int[][] c;
+        long[] ds;
+
+        @Setup
+        public void generate() {
+            c = commuters(n);
+            ds = lengths(queries);
+        }
+    }
+
+    @Benchmark
+    public int baseline(Small s) {
+        int sum = 0;
+        for (long d : s.ds) {
+            sum += Boj13334.solve(s.c[0], s.c[1], (int) d);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] sweep(Large s) {
+        return new RailSweep(s.c[0], s.c[1], s.n).best(s.ds);
+    }
+
+    // BOJ_13334 의 구현을 그대로 옮긴 것 (입력은 이미 읽어둔 것으로 본다)
+    static class Boj13334 {
+        private static class Pos implements Comparable<Pos> {
+            int start;
+            int end;
+
+            public Pos(int start, int end) {
+                this.start = start;
+                this.end = end;
+            }
+
+            @Override
+            public int compareTo(Pos o) {
+                return Integer.compare(this.end, o.end);
+            }
+        }
+
+        static int solve(int[] hs, int[] os, int d) {
+            PriorityQueue<Pos> pq = new PriorityQueue<>();
+            PriorityQueue<Integer> temp = new PriorityQueue<>();
+            for (int i = 0; i < hs.length; i++) {
+                int h = hs[i];
+                int o = os[i];
+                if (h < o) {
+                    pq.offer(new Pos(h, o));
+                }
+                else {
+                    pq.offer(new Pos(o, h));
+                }
+            }
+
+            int result = 0;
+            while(!pq.isEmpty()) {
+                Pos now = pq.poll();
+                temp.offer(now.start);
+                while (!temp.isEmpty() && temp.peek() < now.end - d) {
+                    temp.poll();
+                }
+                result = Math.max(result, temp.size());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package bench;
+
+import lib.io.FastReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BufferedReader + StringTokenizer 와 FastReader 의 입력 처리 속도 비교.
+ * BOJ_18116 처럼 한 줄에 정수 3 개씩 있는 입력 전체를 한 번 읽는 것이 연산 하나이고,
+ * 초당 토큰 수는 (ops/s) * lines * 3 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReaderBench {
+
+    @Param({"100000", "1000000", "10000000"})
+    int lines;
+
+    byte[] input;
+    Path file;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        input = Inputs.intLines(lines, 3, 1_000_000);
+        file = Files.createTempFile("reader-bench", ".txt");
+        Files.write(file, input);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long tokenizer() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input)));
+        long sum = 0;
+        for (int i = 0; i < lines; i++) {
+            StringTokenizer st = new StringTokenizer(br.readLine());
+            while (st.hasMoreTokens()) {
+                sum += Integer.parseInt(st.nextToken());
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fastReaderStream() throws IOException {
+        return sum(new FastReader(new ByteArrayInputStream(input)));
+    }
+
+    @Benchmark
+    public long fastReaderBuffer() throws IOException {
+        return sum(new FastReader(input));
+    }
+
+    @Benchmark
+    public long fastReaderMapped() throws IOException {
+        try (FastReader fr = FastReader.map(file)) {
+            return sum(fr);
+        }
+    }
+
+    private long sum(FastReader fr) throws IOException {
+        long sum = 0;
+        long tokens = (long) lines * 3;
+        for (long i = 0; i < tokens; i++) {
+            sum += fr.nextInt();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,106 @@
+package bench;
+
+import lib.text.SortedWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_2179 의 가장 비슷한 두 단어 찾기 전체 시간 (단어는 이미 읽어둔 것으로 본다). 단어는 길이 1 ~ 100, 소문자 26 자다.
+ * 문제 제한(n 20000)부터 10^6 까지 늘린다. 모든 쌍을 비교하는 방식은 20000 까지만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortedWordsBench {
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"2000", "20000"})
+        int n;
+
+        String[] words;
+
+        @Setup
+        public void generate() {
+            words = Inputs.words(n, 1, 100, 26);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"20000", "100000", "1000000"})
+        int n;
+
+        byte[] chars;
+        int[] offset;
+
+        @Setup
+        public void generate() {
+            String[] words = Inputs.words(n, 1, 100, 26);
+            offset = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                offset[i + 1] = offset[i] + words[i].length();
+            }
+            chars = new byte[offset[n]];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < words[i].length(); j++) {
+                    chars[offset[i] + j] = (byte) words[i].charAt(j);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int baseline(Small s) {
+        return Boj2179.hash(s.words);
+    }
+
+    @Benchmark
+    public int[] sorted(Large s) {
+        return new SortedWords(s.chars, s.offset).similarPair();
+    }
+
+    // BOJ_2179 의 구현을 그대로 옮긴 것
+    static class Boj2179 {
+        static int hash(String[] words) {
+            int n = words.length;
+            int maxPrefixLen = 0;
+            int hashVal = 0;
+
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (words[i].compareTo(words[j]) == 0) {
+                        continue;
+                    }
+                    int len = Math.min(words[i].length(), words[j].length());
+                    int idx = 0;
+                    while (idx < len) {
+                        if (words[i].charAt(idx) == words[j].charAt(idx)) {
+                            idx++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (idx > maxPrefixLen) {
+                        maxPrefixLen = idx;
+                        hashVal = i * 100000 + j;
+                    }
+                }
+            }
+            return hashVal;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package bench;
+
+import lib.subset.SubsetSumIndex;
+import lib.subset.SubsetSums;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_1208 의 부분집합 합 개수 세기 전체 시간.
+ * 문제 제한(N 40)과 그 너머 50 까지 본다. 박싱 리스트 방식은 N 50 이면 3 * 10^7 개의 Integer 가 필요해 40 까지만 잰다.
+ * query / rangeQuery 는 SubsetSumIndex 를 한 번 만들어 둔 뒤 질의 하나의 비용이라 gray (매번 다시 만들기) 와 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SubsetSumBench {
+
+    static int[] array(int n) {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = random.nextInt(200001) - 100000;
+        }
+        return arr;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"30", "40"})
+        int n;
+
+        int[] arr;
+
+        @Setup
+        public void generate() {
+            arr = array(n);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"30", "40", "50"})
+        int n;
+
+        @Param({"1", "4"})
+        int threads;
+
+        int[] arr;
+        ForkJoinPool pool;
+
+        @Setup
+        public void generate() {
+            arr = array(n);
+            pool = new ForkJoinPool(threads);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Indexed {
+        @Param({"30", "40"})
+        int n;
+
+        SubsetSumIndex index;
+        long[] targets;
+        int cursor;
+
+        @Setup
+        public void generate() {
+            index = new SubsetSumIndex(array(n));
+            SplittableRandom random = new SplittableRandom(Inputs.SEED);
+            targets = new long[1024];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = random.nextInt(2_000_001) - 1_000_000;
+            }
+        }
+
+        long next() {
+            cursor = (cursor + 1) & (targets.length - 1);
+            return targets[cursor];
+        }
+    }
+
+    @Benchmark
+    public long baseline(Small s) {
+        return Boj1208.count(s.arr, 12345);
+    }
+
+    @Benchmark
+    public long gray(Large s) {
+        int half = s.n / 2;
+        long[] left = SubsetSums.sorted(s.arr, 0, half, s.pool);
+        long[] right = SubsetSums.sorted(s.arr, half, s.n, s.pool);
+        return SubsetSums.countPairs(left, right, 12345);
+    }
+
+    @Benchmark
+    public long query(Indexed s) {
+        return s.index.count(s.next());
+    }
+
+    @Benchmark
+    public long rangeQuery(Indexed s) {
+        long lo = s.next();
+        return s.index.countBetween(lo, lo + 10_000);
+    }
+
+    // BOJ_1208 의 구현을 그대로 옮긴 것
+    static class Boj1208 {
+        static int[] arr;
+
+        static long count(int[] a, int s) {
+            arr = a;
+            int n = a.length;
+            ArrayList<Integer> leftSum = new ArrayList<>();
+            ArrayList<Integer> rightSum = new ArrayList<>();
+            addSum(0, n / 2, 0, leftSum);
+            addSum(n / 2, n, 0, rightSum);
+            Collections.sort(leftSum);
+            Collections.sort(rightSum);
+            return getResult(rightSum, leftSum, s);
+        }
+
+        private static long getResult(ArrayList<Integer> rightSum, ArrayList<Integer> leftSum, int s) {
+            int pl = 0;
+            int pr = rightSum.size() - 1;
+            long result = 0;
+
+            while (pl < leftSum.size() && pr >= 0) {
+                int sum = leftSum.get(pl) + rightSum.get(pr);
+                if (sum == s) {
+                    int leftVal = leftSum.get(pl);
+                    int rightVal = rightSum.get(pr);
+                    long leftCnt = 0;
+                    long rightCnt = 0;
+                    while (pl < leftSum.size() && leftSum.get(pl) == leftVal) {
+                        leftCnt++;
+                        pl++;
+                    }
+                    while (pr >= 0 && rightSum.get(pr) == rightVal) {
+                        rightCnt++;
+                        pr--;
+                    }
+                    result += leftCnt * rightCnt;
+                } else if (sum < s) {
+                    pl++;
+                } else {
+                    pr--;
+                }
+            }
+            return result;
+        }
+
+        private static void addSum(int start, int end, int sum, ArrayList<Integer> list) {
+            if (start == end) {
+                list.add(sum);
+                return;
+            }
+            addSum(start + 1, end, sum, list);
+            addSum(start + 1, end, sum + arr[start], list);
+        }
+    }
+}
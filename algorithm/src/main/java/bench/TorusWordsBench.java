@@ -0,0 +1,165 @@
+package bench;
+
+import lib.grid.TorusWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_20166 의 단어별 경로 수 세기 전체 시간. 판과 단어는 글자 4 종류로 만들고 단어는 1000 개다.
+ * 문제 제한(10 x 10, 길이 5)부터 판 1000 x 1000, 길이 10 까지 본다. 경로를 늘어놓는 방식은 길이 5 고정이라 그 경우만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TorusWordsBench {
+
+    static byte[] board(int size) {
+        SplittableRandom random = new SplittableRandom(Inputs.SEED);
+        byte[] cells = new byte[size * size];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return cells;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"10", "100"})
+        int size;
+
+        char[][] board;
+        String[] words;
+
+        @Setup
+        public void generate() {
+            byte[] cells = board(size);
+            board = new char[size][size];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    board[i][j] = (char) cells[i * size + j];
+                }
+            }
+            words = Inputs.words(1000, 1, 5, 4);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"10", "100", "1000"})
+        int size;
+
+        @Param({"5", "10"})
+        int length;
+
+        @Param({"1", "4"})
+        int threads;
+
+        byte[] cells;
+        byte[][] words;
+        ForkJoinPool pool;
+
+        @Setup
+        public void generate() {
+            cells = board(size);
+            String[] text = Inputs.words(1000, 1, length, 4);
+            words = new byte[text.length][];
+            for (int i = 0; i < text.length; i++) {
+                words[i] = text[i].getBytes();
+            }
+            pool = new ForkJoinPool(threads);
+        }
+    }
+
+    @Benchmark
+    public int[] baseline(Small s) {
+        return new Boj20166(s.board, s.words).solve();
+    }
+
+    @Benchmark
+    public long[] trie(Large s) {
+        return new TorusWords(s.cells, s.size, s.size).count(s.words, s.pool);
+    }
+
+    // BOJ_20166 의 구현을 그대로 옮긴 것 (판과 단어는 이미 읽어둔 것으로 본다)
+    static class Boj20166 {
+        int n, m;
+        char[][] board;
+        String[] words;
+        int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+        Map<String, Integer> map = new HashMap<>();
+
+        Boj20166(char[][] board, String[] words) {
+            this.board = board;
+            this.n = board.length;
+            this.m = board[0].length;
+            this.words = words;
+        }
+
+        int[] solve() {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < m; j++) {
+                    dfs(1, i, j, new StringBuilder().append(board[i][j]));
+                }
+            }
+
+            int[] result = new int[words.length];
+            for (int i = 0; i < words.length; i++) {
+                String s = words[i];
+                if (map.containsKey(s)) {
+                    result[i] = map.get(s);
+                }
+                else {
+                    result[i] = 0;
+                }
+            }
+            return result;
+        }
+
+        void dfs(int depth, int x, int y, StringBuilder sb) {
+            if (!map.containsKey(sb.toString())) {
+                map.put(sb.toString(), 1);
+            }
+            else {
+                map.put(sb.toString(), map.get(sb.toString()) + 1);
+            }
+            if (depth == 5) {
+                return;
+            }
+            for (int[] dir : dirs) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0) {
+                    nx = n-1;
+                }
+                if (nx >= n) {
+                    nx = 0;
+                }
+                if (ny < 0) {
+                    ny = m-1;
+                }
+                if (ny >= m) {
+                    ny = 0;
+                }
+                dfs(depth + 1, nx, ny, sb.append(board[nx][ny]));
+                sb.deleteCharAt(sb.length()-1);
+            }
+        }
+    }
+}
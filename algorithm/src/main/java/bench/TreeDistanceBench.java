@@ -0,0 +1,138 @@
+package bench;
+
+import lib.tree.LcaIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_1240 의 트리 거리 질의.
+ * baseline / lca 는 질의 하나, batch 는 질의 10^6 개를 한 번에 답하는 시간이고 build 는 LcaIndex 전처리 시간이다.
+ * 문제 제한(N 1000)부터 100 배까지 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TreeDistanceBench {
+    static final int QUERIES = 1_000_000;
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Param({"1", "4"})
+    int threads;
+
+    int[][] edges;
+    int[] pairs;
+    long[] out;
+    ArrayList<Boj1240.Info>[] graph;
+    LcaIndex index;
+    ForkJoinPool pool;
+    int cursor;
+
+    @Setup
+    public void generate() {
+        edges = Inputs.tree(size, 10000);
+        pairs = Inputs.pairs(QUERIES, size);
+        out = new long[QUERIES];
+        graph = Boj1240.graph(size, edges);
+        index = new LcaIndex(size, edges[0], edges[1], edges[2]);
+        pool = new ForkJoinPool(threads);
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = i + 1 == QUERIES ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public int baseline() {
+        int i = next();
+        return Boj1240.bfs(graph, size, pairs[i * 2], pairs[i * 2 + 1]);
+    }
+
+    @Benchmark
+    public long lca() {
+        int i = next();
+        return index.distance(pairs[i * 2], pairs[i * 2 + 1]);
+    }
+
+    @Benchmark
+    public long[] batch() {
+        index.distances(pairs, 0, QUERIES, out, pool);
+        return out;
+    }
+
+    @Benchmark
+    public LcaIndex build() {
+        return new LcaIndex(size, edges[0], edges[1], edges[2]);
+    }
+
+    // BOJ_1240 의 구현을 그대로 옮긴 것
+    static class Boj1240 {
+        static class Info {
+            int node;
+            int w;
+
+            public Info(int node, int w) {
+                this.node = node;
+                this.w = w;
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static ArrayList<Info>[] graph(int n, int[][] edges) {
+            ArrayList<Info>[] graph = new ArrayList[n + 1];
+            for (int i = 0; i <= n; i++) {
+                graph[i] = new ArrayList<>();
+            }
+            for (int i = 0; i < n - 1; i++) {
+                int a = edges[0][i];
+                int b = edges[1][i];
+                int w = edges[2][i];
+                graph[a].add(new Info(b, w));
+                graph[b].add(new Info(a, w));
+            }
+            return graph;
+        }
+
+        static int bfs(ArrayList<Info>[] graph, int n, int from, int to) {
+            Queue<Info> q = new LinkedList<>();
+            boolean[] visited = new boolean[n + 1];
+            q.offer(new Info(from, 0));
+            visited[from] = true;
+
+            while (!q.isEmpty()) {
+                Info now = q.poll();
+                if (now.node == to) {
+                    return now.w;
+                }
+                for (Info next : graph[now.node]) {
+                    if (!visited[next.node]) {
+                        visited[next.node] = true;
+                        q.offer(new Info(next.node, now.w + next.w));
+                    }
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package bench;
+
+import lib.trie.CompactTrie;
+import lib.trie.DoubleArrayTrie;
+import lib.trie.Trie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_14426 의 Trie.insert / search 를 단어 하나 단위로 잰다.
+ * 문제 제한(N, M 10^4)부터 100 배까지 늘려본다. 단어 길이는 메모리 때문에 5~30 으로 둔다.
+ * 키당 메모리는 TrieFootprint 로 따로 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TrieBench {
+
+    @Param({"10000", "100000", "1000000"})
+    int size;
+
+    String[] words;
+    String[] queries;
+    Boj14426.Trie built;
+    Boj14426.Trie growing;
+    Trie compactBuilt;
+    Trie compactGrowing;
+    Trie doubleArrayBuilt;
+    Trie doubleArrayGrowing;
+    int insertCursor;
+    int searchCursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        words = Inputs.words(size, 5, 30, 26);
+        // 절반은 저장된 단어의 접두사, 절반은 무작위 단어
+        String[] random = Inputs.words(size * 2, 3, 30, 26);
+        queries = new String[size];
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                String w = words[i];
+                queries[i] = w.substring(0, 1 + i % w.length());
+            } else {
+                queries[i] = random[size + i];
+            }
+        }
+        built = new Boj14426.Trie();
+        compactBuilt = new CompactTrie(CompactTrie.LOWERCASE);
+        doubleArrayBuilt = new DoubleArrayTrie(CompactTrie.LOWERCASE);
+        for (String w : words) {
+            built.insert(w);
+            compactBuilt.insert(w);
+            doubleArrayBuilt.insert(w);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        growing = new Boj14426.Trie();
+        compactGrowing = new CompactTrie(CompactTrie.LOWERCASE);
+        doubleArrayGrowing = new DoubleArrayTrie(CompactTrie.LOWERCASE);
+        insertCursor = 0;
+        searchCursor = 0;
+    }
+
+    @Benchmark
+    public Object baselineInsert() {
+        int i = insertCursor;
+        insertCursor = i + 1 == words.length ? 0 : i + 1;
+        growing.insert(words[i]);
+        return growing;
+    }
+
+    @Benchmark
+    public boolean baselineSearch() {
+        int i = searchCursor;
+        searchCursor = i + 1 == queries.length ? 0 : i + 1;
+        return built.search(queries[i]);
+    }
+
+    @Benchmark
+    public Object compactInsert() {
+        int i = insertCursor;
+        insertCursor = i + 1 == words.length ? 0 : i + 1;
+        compactGrowing.insert(words[i]);
+        return compactGrowing;
+    }
+
+    @Benchmark
+    public boolean compactSearch() {
+        int i = searchCursor;
+        searchCursor = i + 1 == queries.length ? 0 : i + 1;
+        return compactBuilt.containsPrefix(queries[i]);
+    }
+
+    @Benchmark
+    public Object doubleArrayInsert() {
+        int i = insertCursor;
+        insertCursor = i + 1 == words.length ? 0 : i + 1;
+        doubleArrayGrowing.insert(words[i]);
+        return doubleArrayGrowing;
+    }
+
+    @Benchmark
+    public boolean doubleArraySearch() {
+        int i = searchCursor;
+        searchCursor = i + 1 == queries.length ? 0 : i + 1;
+        return doubleArrayBuilt.containsPrefix(queries[i]);
+    }
+
+    // BOJ_14426 의 구현을 그대로 옮긴 것
+    static class Boj14426 {
+        static class Node {
+            Map<Character, Node> child;
+
+            public Node() {
+                this.child = new HashMap<>();
+            }
+        }
+
+        static class Trie {
+            Node root;
+
+            public Trie() {
+                this.root = new Node();
+            }
+
+            void insert(String str) {
+                Node node = this.root;
+
+                for (int i = 0; i < str.length(); i++) {
+                    char c = str.charAt(i);
+                    node.child.putIfAbsent(c, new Node());
+                    node = node.child.get(c);
+                }
+            }
+
+            boolean search(String str) {
+                Node node = this.root;
+
+                for (int i = 0; i < str.length(); i++) {
+                    char c = str.charAt(i);
+                    if (node.child.containsKey(c)) {
+                        node = node.child.get(c);
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package bench;
+
+import lib.trie.CompactTrie;
+import lib.trie.DoubleArrayTrie;
+import lib.trie.Trie;
+
+/**
+ * 단어 n 개를 넣은 트라이가 힙에서 차지하는 크기를 키당 바이트로 보여준다.
+ * GC 뒤 사용 중인 힙 크기의 차이로 재므로 대략적인 값이다.
+ * 사용법: java -Xmx8g -cp target/benchmarks.jar bench.TrieFootprint [n] [digits|lowercase]
+ */
+public class TrieFootprint {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        boolean digits = args.length > 1 && args[1].equals("digits");
+        String[] words = digits ? Inputs.digitWords(n, 5, 10) : Inputs.words(n, 5, 30, 26);
+        String alphabet = digits ? CompactTrie.DIGITS : CompactTrie.LOWERCASE;
+
+        long before = usedHeap();
+        TrieBench.Boj14426.Trie baseline = new TrieBench.Boj14426.Trie();
+        for (String w : words) {
+            baseline.insert(w);
+        }
+        long baselineBytes = usedHeap() - before;
+        System.out.printf("HashMap trie   : %,d bytes (%.1f bytes/key)%n", baselineBytes, (double) baselineBytes / n);
+        baseline = null;
+
+        measure("CompactTrie    ", new CompactTrie(alphabet), words);
+        measure("DoubleArrayTrie", new DoubleArrayTrie(alphabet), words);
+    }
+
+    private static void measure(String name, Trie trie, String[] words) {
+        trie.clear();
+        long before = usedHeap();
+        long start = System.nanoTime();
+        for (String w : words) {
+            trie.insert(w);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = usedHeap() - before;
+        System.out.printf("%s: %,d bytes (%.1f bytes/key, %,d nodes, %.0f inserts/ms)%n",
+                name, bytes, (double) bytes / words.length, trie.nodes(), words.length / (elapsed / 1e6));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,105 @@
+package bench;
+
+import lib.dsu.UnionFind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BOJ_18116 의 find / union 을 연산 하나 단위로 잰다.
+ * 문제 제한(부품 10^6 개)부터 100 배까지 늘려본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UnionFindBench {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    int[] ops;
+    int cursor;
+    Boj18116 baseline;
+    UnionFind library;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        ops = Inputs.unionOps(size, size, 0.3);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        baseline = new Boj18116(size);
+        library = new UnionFind(size + 1);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public int baseline() {
+        int i = cursor;
+        cursor = i + 2 == ops.length ? 0 : i + 2;
+        if (ops[i] == 0) {
+            return baseline.count[baseline.find(ops[i + 1])];
+        }
+        baseline.union(ops[i], ops[i + 1]);
+        return i;
+    }
+
+    @Benchmark
+    public int library() {
+        int i = cursor;
+        cursor = i + 2 == ops.length ? 0 : i + 2;
+        if (ops[i] == 0) {
+            return library.size(ops[i + 1]);
+        }
+        library.union(ops[i], ops[i + 1]);
+        return i;
+    }
+
+    // BOJ_18116 의 구현을 그대로 옮긴 것
+    static class Boj18116 {
+        final int[] parent;
+        final int[] count;
+
+        Boj18116(int n) {
+            parent = new int[n + 1];
+            count = new int[n + 1];
+            for (int i = 1; i <= n; i++) {
+                parent[i] = i;
+                count[i] = 1;
+            }
+        }
+
+        void union(int x, int y) {
+            x = find(x);
+            y = find(y);
+
+            if (x == y) {
+                return;
+            }
+            count[x] += count[y];
+            parent[y] = x;
+        }
+
+        int find(int x) {
+            if (parent[x] == x) {
+                return x;
+            }
+            return parent[x] = find(parent[x]);
+        }
+    }
+}
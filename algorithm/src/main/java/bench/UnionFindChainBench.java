@@ -0,0 +1,107 @@
+package bench;
+
+import lib.dsu.UnionFind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1-2, 2-3, ... 순서로 합쳐서 한 줄짜리 체인을 만든 뒤 1 부터 차례로 find 한다.
+ * 기존 풀이들의 union 은 항상 y 의 루트를 x 아래에 붙이므로 체인 길이가 n 이 되고,
+ * 첫 find 의 재귀 깊이도 n 이 된다. 기본 스택으로는 10^5 근처에서 StackOverflowError 가 나서
+ * 비교를 위해 스택을 크게 잡는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss1g"})
+public class UnionFindChainBench {
+
+    @Param({"10000", "100000", "1000000"})
+    int size;
+
+    int[] ops;
+
+    @Setup
+    public void generate() {
+        ops = Inputs.chainOps(size);
+    }
+
+    @Benchmark
+    public long boj18116() {
+        UnionFindBench.Boj18116 uf = new UnionFindBench.Boj18116(size);
+        for (int i = 0; i < ops.length; i += 2) {
+            uf.union(ops[i], ops[i + 1]);
+        }
+        long sum = 0;
+        for (int i = 1; i <= size; i++) {
+            sum += uf.count[uf.find(i)];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boj16398() {
+        Boj16398 uf = new Boj16398(size);
+        for (int i = 0; i < ops.length; i += 2) {
+            uf.union(ops[i], ops[i + 1]);
+        }
+        long sum = 0;
+        for (int i = 1; i <= size; i++) {
+            sum += uf.find(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long library() {
+        UnionFind uf = new UnionFind(size + 1);
+        for (int i = 0; i < ops.length; i += 2) {
+            uf.union(ops[i], ops[i + 1]);
+        }
+        long sum = 0;
+        for (int i = 1; i <= size; i++) {
+            sum += uf.size(i);
+        }
+        return sum;
+    }
+
+    // BOJ_16398 / BOJ_1765 / BOJ_4386 의 구현을 그대로 옮긴 것 (크기 정보 없이 붙이기만 한다)
+    static class Boj16398 {
+        final int[] parent;
+
+        Boj16398(int n) {
+            parent = new int[n + 1];
+            for (int i = 1; i <= n; i++) {
+                parent[i] = i;
+            }
+        }
+
+        void union(int x, int y) {
+            x = find(x);
+            y = find(y);
+            if (x != y) {
+                parent[y] = x;
+            }
+        }
+
+        int find(int x) {
+            if (parent[x] == x) {
+                return x;
+            }
+            return parent[x] = find(parent[x]);
+        }
+    }
+}
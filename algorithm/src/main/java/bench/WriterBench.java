@@ -0,0 +1,81 @@
+package bench;
+
+import lib.io.FastWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정수 lines 줄을 출력하는 비용 비교. 출력 대상은 버리는 스트림/채널이다.
+ * -prof gc 로 보면 StringBuilder 방식은 출력 전체 크기만큼 할당하고 FastWriter 는 버퍼 하나만 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WriterBench {
+
+    @Param({"100000", "1000000", "10000000"})
+    int lines;
+
+    @Benchmark
+    public void stringBuilder() {
+        PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append(i * 7919L).append('\n');
+        }
+        out.print(sb);
+    }
+
+    @Benchmark
+    public void println() {
+        PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+        for (int i = 0; i < lines; i++) {
+            out.println(i * 7919L);
+        }
+    }
+
+    @Benchmark
+    public void fastWriter() throws IOException {
+        FastWriter fw = new FastWriter(new NullChannel());
+        for (int i = 0; i < lines; i++) {
+            fw.println(i * 7919L);
+        }
+        fw.flush();
+    }
+
+    static class NullChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package lib.dsu;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 여러 스레드가 동시에 union 할 수 있는 락 없는 서로소 집합.
+ * 루트는 parent[x] == x 이고, 두 루트를 합칠 때는 우선순위가 낮은 루트를 CAS 로 높은 쪽 아래에 붙인다.
+ * 우선순위는 원소 번호를 뒤섞은 값이라 체인처럼 들어오는 입력에서도 트리가 한쪽으로 길어지지 않는다.
+ * find 는 CAS 로 경로를 쪼개며(path splitting) 올라간다.
+ *
+ * size() 와 components() 는 진행 중인 union 이 모두 끝난 뒤에 불러야 정확하다.
+ */
+public final class ConcurrentUnionFind {
+    // 이보다 작은 묶음은 나눠봐야 손해라 현재 스레드에서 바로 처리한다.
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final AtomicIntegerArray parent;
+    private final AtomicIntegerArray size;
+    private final AtomicInteger components;
+
+    // 0 ~ n-1 번 원소를 각각 따로 둔다.
+    public ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n);
+        size = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+            size.set(i, 1);
+        }
+        components = new AtomicInteger(n);
+    }
+
+    private static int priority(int x) {
+        // 32비트 위의 전단사 함수라 서로 다른 원소의 우선순위는 겹치지 않는다.
+        x *= 0x9E3779B1;
+        return x ^ (x >>> 16);
+    }
+
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int gp = parent.get(p);
+            if (gp != p) {
+                parent.compareAndSet(x, p, gp);
+            }
+            x = p;
+        }
+    }
+
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return false;
+            }
+            if (priority(x) < priority(y)) {
+                int temp = x;
+                x = y;
+                y = temp;
+            }
+            if (parent.compareAndSet(y, y, x)) {
+                components.decrementAndGet();
+                deposit(x, size.getAndSet(y, 0));
+                return true;
+            }
+        }
+    }
+
+    // s 만큼의 크기를 r 이 속한 루트로 옮긴다.
+    // 더한 직후 r 이 아직 루트라면 나중에 r 을 붙이는 쪽이 getAndSet 으로 같이 가져간다.
+    private void deposit(int r, int s) {
+        while (s != 0) {
+            size.getAndAdd(r, s);
+            if (parent.get(r) == r) {
+                return;
+            }
+            s = size.getAndSet(r, 0);
+            r = find(r);
+        }
+    }
+
+    public boolean connected(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return true;
+            }
+            // x 가 여전히 루트라면 그 시점에 둘은 다른 집합이다.
+            if (parent.get(x) == x) {
+                return false;
+            }
+        }
+    }
+
+    public int size(int x) {
+        return size.get(find(x));
+    }
+
+    public int components() {
+        return components.get();
+    }
+
+    public int capacity() {
+        return parent.length();
+    }
+
+    // pairs[2i], pairs[2i+1] 쌍을 from 번째 쌍부터 to 번째 쌍 전까지 모두 합친다.
+    public void unionAll(int[] pairs, int from, int to) {
+        unionAll(pairs, from, to, ForkJoinPool.commonPool());
+    }
+
+    public void unionAll(int[] pairs, int from, int to, ForkJoinPool pool) {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            unionRange(pairs, from, to);
+            return;
+        }
+        pool.invoke(new UnionTask(pairs, from, to));
+    }
+
+    private void unionRange(int[] pairs, int from, int to) {
+        for (int i = from; i < to; i++) {
+            union(pairs[i * 2], pairs[i * 2 + 1]);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class UnionTask extends RecursiveAction {
+        private final int[] pairs;
+        private final int from;
+        private final int to;
+
+        UnionTask(int[] pairs, int from, int to) {
+            this.pairs = pairs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                unionRange(pairs, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new UnionTask(pairs, from, mid), new UnionTask(pairs, mid, to));
+        }
+    }
+}
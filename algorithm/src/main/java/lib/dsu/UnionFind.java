@@ -0,0 +1,69 @@
+package lib.dsu;
+
+import java.util.Arrays;
+
+/**
+ * int[] 하나로 관리하는 서로소 집합.
+ * 루트는 -(집합 크기) 를, 나머지는 부모 번호를 저장한다.
+ * find 는 반복문 + 경로 절반 압축이라 긴 체인에서도 스택을 쓰지 않고,
+ * union 은 크기가 작은 쪽을 큰 쪽 아래에 붙인다.
+ */
+public final class UnionFind {
+    private final int[] parent;
+    private int components;
+
+    // 0 ~ n-1 번 원소를 각각 따로 둔다.
+    public UnionFind(int n) {
+        parent = new int[n];
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(parent, -1);
+        components = parent.length;
+    }
+
+    public int find(int x) {
+        while (parent[x] >= 0) {
+            int p = parent[x];
+            if (parent[p] >= 0) {
+                parent[x] = parent[p];
+            }
+            x = parent[x];
+        }
+        return x;
+    }
+
+    public boolean union(int x, int y) {
+        x = find(x);
+        y = find(y);
+        if (x == y) {
+            return false;
+        }
+        if (parent[x] > parent[y]) {
+            int temp = x;
+            x = y;
+            y = temp;
+        }
+        parent[x] += parent[y];
+        parent[y] = x;
+        components--;
+        return true;
+    }
+
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    public int size(int x) {
+        return -parent[find(x)];
+    }
+
+    public int components() {
+        return components;
+    }
+
+    public int capacity() {
+        return parent.length;
+    }
+}
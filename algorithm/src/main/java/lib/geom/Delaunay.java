@@ -0,0 +1,437 @@
+package lib.geom;
+
+import lib.sort.RadixSort;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Guibas-Stolfi 분할 정복 들로네 삼각분할. 자르는 방향은 Dwyer 처럼 세로 / 가로를 번갈아 쓴다. O(n log n).
+ * 간선은 quad-edge 를 int 배열로 편 것으로, 간선 e 의 네 방향은 e & ~3 부터 연속한 네 칸이다.
+ * 방향 판정과 외접원 판정은 double 로 계산하고, 오차 한계 안쪽일 때만 BigDecimal 로 정확히 다시 계산한다.
+ * 유클리드 최소 신장 트리는 항상 들로네 간선 안에 있어서 EuclideanMst 가 후보 간선으로 쓴다.
+ */
+public final class Delaunay {
+    private static final double EPSILON = Math.ulp(1.0) / 2;
+    private static final double CCW_BOUND = (3 + 16 * EPSILON) * EPSILON;
+    private static final double IN_CIRCLE_BOUND = (10 + 96 * EPSILON) * EPSILON;
+
+    // 좌표 순으로 정렬하고 중복을 뺀 점
+    private final double[] x;
+    private final double[] y;
+    // 정렬된 점 번호 -> 원래 점 번호
+    private final int[] rep;
+    private int[] onext;
+    // 방향 간선 e (짝수) 의 시작점은 org[e >> 1]. 지운 간선은 -1
+    private int[] org;
+    private int quads;
+    private int free = -1;
+
+    private Delaunay(double[] x, double[] y, int[] rep, int n) {
+        this.x = x;
+        this.y = y;
+        this.rep = rep;
+        int capacity = 3 * n + 8;
+        onext = new int[capacity * 4];
+        org = new int[capacity * 2];
+    }
+
+    /**
+     * 점 (x[i], y[i]) 의 들로네 간선을 i, j 쌍으로 이어 붙여 돌려준다.
+     * 좌표가 같은 점은 길이 0 인 간선으로 먼저 나온 점에 이어준다.
+     */
+    public static int[] edges(double[] xs, double[] ys) {
+        int n = xs.length;
+        int[] order = new int[n];
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            keys[i] = RadixSort.key(ys[i]);
+        }
+        RadixSort.sort(keys, order, 0, n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = RadixSort.key(xs[order[i]]);
+        }
+        RadixSort.sort(keys, order, 0, n);
+
+        double[] ux = new double[n];
+        double[] uy = new double[n];
+        int[] rep = new int[n];
+        int[] pairs = new int[6 * n + 2];
+        int size = 0;
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            int p = order[i];
+            if (m > 0 && xs[p] == ux[m - 1] && ys[p] == uy[m - 1]) {
+                pairs[size++] = rep[m - 1];
+                pairs[size++] = p;
+                continue;
+            }
+            ux[m] = xs[p];
+            uy[m] = ys[p];
+            rep[m++] = p;
+        }
+        if (m < 2) {
+            return Arrays.copyOf(pairs, size);
+        }
+
+        Delaunay d = new Delaunay(ux, uy, rep, m);
+        d.build(0, m, 0);
+        for (int q = 0; q < d.quads; q++) {
+            if (d.org[q * 2] >= 0) {
+                pairs[size++] = rep[d.org[q * 2]];
+                pairs[size++] = rep[d.org[q * 2 + 1]];
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    private static int rot(int e) {
+        return (e & ~3) | ((e + 1) & 3);
+    }
+
+    private static int invRot(int e) {
+        return (e & ~3) | ((e + 3) & 3);
+    }
+
+    private static int sym(int e) {
+        return e ^ 2;
+    }
+
+    private int org(int e) {
+        return org[e >> 1];
+    }
+
+    private int dest(int e) {
+        return org[sym(e) >> 1];
+    }
+
+    private int oprev(int e) {
+        return rot(onext[rot(e)]);
+    }
+
+    private int lnext(int e) {
+        return rot(onext[invRot(e)]);
+    }
+
+    private int rprev(int e) {
+        return onext[sym(e)];
+    }
+
+    private int makeEdge(int a, int b) {
+        int q;
+        if (free >= 0) {
+            q = free;
+            free = onext[q * 4];
+        } else {
+            if (quads * 4 == onext.length) {
+                onext = Arrays.copyOf(onext, onext.length * 2);
+                org = Arrays.copyOf(org, org.length * 2);
+            }
+            q = quads++;
+        }
+        int e = q * 4;
+        onext[e] = e;
+        onext[e + 1] = e + 3;
+        onext[e + 2] = e + 2;
+        onext[e + 3] = e + 1;
+        org[q * 2] = a;
+        org[q * 2 + 1] = b;
+        return e;
+    }
+
+    private void splice(int a, int b) {
+        int alpha = rot(onext[a]);
+        int beta = rot(onext[b]);
+        int temp = onext[a];
+        onext[a] = onext[b];
+        onext[b] = temp;
+        temp = onext[alpha];
+        onext[alpha] = onext[beta];
+        onext[beta] = temp;
+    }
+
+    private int connect(int a, int b) {
+        int e = makeEdge(dest(a), org(b));
+        splice(e, lnext(a));
+        splice(sym(e), b);
+        return e;
+    }
+
+    private void deleteEdge(int e) {
+        splice(e, oprev(e));
+        splice(sym(e), oprev(sym(e)));
+        int q = e >> 2;
+        org[q * 2] = -1;
+        onext[q * 4] = free;
+        free = q;
+    }
+
+    // lo ~ hi-1 번 점을 삼각분할한다. axis 0 은 세로로, 1 은 가로로 자른다.
+    // 돌려주는 값은 axis 방향 순서로 (첫 점에서 나가는 반시계 볼록 껍질 간선, 끝 점에서 나가는 시계 방향 간선) 이다.
+    private long build(int lo, int hi, int axis) {
+        int n = hi - lo;
+        if (n <= 3) {
+            sortSmall(lo, hi, axis);
+        }
+        if (n == 2) {
+            int a = makeEdge(lo, lo + 1);
+            return pack(a, sym(a));
+        }
+        if (n == 3) {
+            int a = makeEdge(lo, lo + 1);
+            int b = makeEdge(lo + 1, lo + 2);
+            splice(sym(a), b);
+            int o = orient(lo, lo + 1, lo + 2);
+            if (o > 0) {
+                connect(b, a);
+                return pack(a, sym(b));
+            }
+            if (o < 0) {
+                int c = connect(b, a);
+                return pack(sym(c), c);
+            }
+            return pack(a, sym(b));
+        }
+
+        // 자르는 방향을 번갈아 바꾸면 (Dwyer) 가늘고 긴 조각이 생기지 않고 점도 공간적으로 모인다.
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi, mid, axis);
+        long left = extremes(build(lo, mid, axis ^ 1), axis);
+        long right = extremes(build(mid, hi, axis ^ 1), axis);
+        int ldo = (int) (left >>> 32);
+        int ldi = (int) left;
+        int rdi = (int) (right >>> 32);
+        int rdo = (int) right;
+
+        // 두 삼각분할 아래쪽의 공통 접선을 찾는다.
+        while (true) {
+            if (orient(org(rdi), org(ldi), dest(ldi)) > 0) {
+                ldi = lnext(ldi);
+            } else if (orient(org(ldi), dest(rdi), org(rdi)) > 0) {
+                rdi = rprev(rdi);
+            } else {
+                break;
+            }
+        }
+        int basel = connect(sym(rdi), ldi);
+        if (org(ldi) == org(ldo)) {
+            ldo = sym(basel);
+        }
+        if (org(rdi) == org(rdo)) {
+            rdo = basel;
+        }
+
+        // 밑변에서 위로 올라가며 두 쪽을 꿰맨다.
+        while (true) {
+            int lcand = onext[sym(basel)];
+            if (valid(lcand, basel)) {
+                while (inCircle(dest(basel), org(basel), dest(lcand), dest(onext[lcand]))) {
+                    int t = onext[lcand];
+                    deleteEdge(lcand);
+                    lcand = t;
+                }
+            }
+            int rcand = oprev(basel);
+            if (valid(rcand, basel)) {
+                while (inCircle(dest(basel), org(basel), dest(rcand), dest(oprev(rcand)))) {
+                    int t = oprev(rcand);
+                    deleteEdge(rcand);
+                    rcand = t;
+                }
+            }
+            boolean leftValid = valid(lcand, basel);
+            boolean rightValid = valid(rcand, basel);
+            if (!leftValid && !rightValid) {
+                break;
+            }
+            if (!leftValid || (rightValid && inCircle(dest(lcand), org(lcand), org(rcand), dest(rcand)))) {
+                basel = connect(rcand, sym(basel));
+            } else {
+                basel = connect(sym(basel), sym(lcand));
+            }
+        }
+        return pack(ldo, rdo);
+    }
+
+    // 볼록 껍질을 한 바퀴 돌아 axis 방향 순서로 첫 점과 끝 점의 껍질 간선을 찾는다.
+    private long extremes(long hull, int axis) {
+        int start = (int) (hull >>> 32);
+        int first = start;
+        int last = start;
+        for (int e = rprev(start); e != start; e = rprev(e)) {
+            if (before(org(e), org(first), axis)) {
+                first = e;
+            }
+            if (before(org(last), org(e), axis)) {
+                last = e;
+            }
+        }
+        return pack(first, oprev(last));
+    }
+
+    // axis 0 은 (x, y), axis 1 은 (y, -x) 순서. 중복 점이 없으니 같은 경우는 없다.
+    private boolean before(int i, int j, int axis) {
+        return less(i, x[j], y[j], axis);
+    }
+
+    private boolean less(int i, double px, double py, int axis) {
+        if (axis == 0) {
+            return x[i] < px || (x[i] == px && y[i] < py);
+        }
+        return y[i] < py || (y[i] == py && x[i] > px);
+    }
+
+    private boolean greater(int i, double px, double py, int axis) {
+        if (axis == 0) {
+            return x[i] > px || (x[i] == px && y[i] > py);
+        }
+        return y[i] > py || (y[i] == py && x[i] < px);
+    }
+
+    private void sortSmall(int lo, int hi, int axis) {
+        for (int i = lo + 1; i < hi; i++) {
+            for (int j = i; j > lo && before(j, j - 1, axis); j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+
+    // lo ~ hi-1 번 점을 axis 순서로 k 번째 점 앞뒤로 나눈다 (quickselect).
+    private void select(int lo, int hi, int k, int axis) {
+        hi--;
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            // 세 점의 중앙값을 피벗으로
+            int p = before(lo, m, axis)
+                    ? (before(m, hi, axis) ? m : before(lo, hi, axis) ? hi : lo)
+                    : (before(lo, hi, axis) ? lo : before(m, hi, axis) ? hi : m);
+            double px = x[p];
+            double py = y[p];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (less(i, px, py, axis)) {
+                    i++;
+                }
+                while (greater(j, px, py, axis)) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        double t = x[i];
+        x[i] = x[j];
+        x[j] = t;
+        t = y[i];
+        y[i] = y[j];
+        y[j] = t;
+        int r = rep[i];
+        rep[i] = rep[j];
+        rep[j] = r;
+    }
+
+    private static long pack(int a, int b) {
+        return (long) a << 32 | (b & 0xffffffffL);
+    }
+
+    private boolean valid(int e, int basel) {
+        return orient(dest(e), dest(basel), org(basel)) > 0;
+    }
+
+    // a, b, c 가 반시계 방향이면 양수, 시계 방향이면 음수, 한 직선 위면 0
+    private int orient(int a, int b, int c) {
+        double bax = x[b] - x[a];
+        double cay = y[c] - y[a];
+        double bay = y[b] - y[a];
+        double cax = x[c] - x[a];
+        // 두 double 의 차는 같은 값일 때만 0 이라 한쪽 곱이 0 이면 부호를 바로 안다.
+        // 같은 x 나 y 좌표에 점이 여럿 있을 때 정확한 계산으로 넘어가지 않게 한다.
+        if (bax == 0 || cay == 0) {
+            return -sign(bay) * sign(cax);
+        }
+        if (bay == 0 || cax == 0) {
+            return sign(bax) * sign(cay);
+        }
+        double left = bax * cay;
+        double right = bay * cax;
+        double det = left - right;
+        if (Math.abs(det) > CCW_BOUND * (Math.abs(left) + Math.abs(right))) {
+            return det > 0 ? 1 : -1;
+        }
+        BigDecimal ax = new BigDecimal(x[a]);
+        BigDecimal ay = new BigDecimal(y[a]);
+        BigDecimal bx = new BigDecimal(x[b]).subtract(ax);
+        BigDecimal by = new BigDecimal(y[b]).subtract(ay);
+        BigDecimal cx = new BigDecimal(x[c]).subtract(ax);
+        BigDecimal cy = new BigDecimal(y[c]).subtract(ay);
+        return bx.multiply(cy).subtract(by.multiply(cx)).signum();
+    }
+
+    private static int sign(double v) {
+        return v > 0 ? 1 : v < 0 ? -1 : 0;
+    }
+
+    // 반시계 방향 a, b, c 의 외접원 안에 d 가 (경계 제외) 있는지
+    private boolean inCircle(int a, int b, int c, int d) {
+        // 후보 간선이 밑변과 맞닿아 있으면 d 가 a, b, c 중 하나일 수 있다.
+        if (d == a || d == b || d == c) {
+            return false;
+        }
+        double adx = x[a] - x[d];
+        double ady = y[a] - y[d];
+        double bdx = x[b] - x[d];
+        double bdy = y[b] - y[d];
+        double cdx = x[c] - x[d];
+        double cdy = y[c] - y[d];
+
+        double bdxcdy = bdx * cdy;
+        double cdxbdy = cdx * bdy;
+        double alift = adx * adx + ady * ady;
+        double cdxady = cdx * ady;
+        double adxcdy = adx * cdy;
+        double blift = bdx * bdx + bdy * bdy;
+        double adxbdy = adx * bdy;
+        double bdxady = bdx * ady;
+        double clift = cdx * cdx + cdy * cdy;
+
+        double det = alift * (bdxcdy - cdxbdy) + blift * (cdxady - adxcdy) + clift * (adxbdy - bdxady);
+        double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+                + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+                + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+        if (Math.abs(det) > IN_CIRCLE_BOUND * permanent) {
+            return det > 0;
+        }
+        return inCircleExact(a, b, c, d) > 0;
+    }
+
+    private int inCircleExact(int a, int b, int c, int d) {
+        BigDecimal dx = new BigDecimal(x[d]);
+        BigDecimal dy = new BigDecimal(y[d]);
+        BigDecimal ax = new BigDecimal(x[a]).subtract(dx);
+        BigDecimal ay = new BigDecimal(y[a]).subtract(dy);
+        BigDecimal bx = new BigDecimal(x[b]).subtract(dx);
+        BigDecimal by = new BigDecimal(y[b]).subtract(dy);
+        BigDecimal cx = new BigDecimal(x[c]).subtract(dx);
+        BigDecimal cy = new BigDecimal(y[c]).subtract(dy);
+        BigDecimal alift = ax.multiply(ax).add(ay.multiply(ay));
+        BigDecimal blift = bx.multiply(bx).add(by.multiply(by));
+        BigDecimal clift = cx.multiply(cx).add(cy.multiply(cy));
+        return alift.multiply(bx.multiply(cy).subtract(cx.multiply(by)))
+                .add(blift.multiply(cx.multiply(ay).subtract(ax.multiply(cy))))
+                .add(clift.multiply(ax.multiply(by).subtract(bx.multiply(ay))))
+                .signum();
+    }
+}
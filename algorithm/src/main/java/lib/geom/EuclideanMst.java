@@ -0,0 +1,56 @@
+package lib.geom;
+
+import lib.dsu.UnionFind;
+import lib.sort.RadixSort;
+
+/**
+ * 평면 위 점들의 유클리드 최소 신장 트리.
+ * 모든 쌍 (n^2 개) 대신 들로네 간선 (3n 개 이하) 만 후보로 두고, 길이의 제곱으로 기수 정렬한 뒤 크루스칼을 돈다.
+ */
+public final class EuclideanMst {
+
+    private EuclideanMst() {
+    }
+
+    // MST 간선을 i, j 쌍으로 이어 붙여 돌려준다. 길이가 짧은 간선부터 나온다.
+    public static int[] edges(double[] x, double[] y) {
+        int n = x.length;
+        int[] tree = new int[Math.max(n - 1, 0) * 2];
+        int size = 0;
+        int[] pairs = Delaunay.edges(x, y);
+        int m = pairs.length / 2;
+        long[] keys = new long[m];
+        int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            keys[i] = Double.doubleToRawLongBits(squaredLength(x, y, pairs[i * 2], pairs[i * 2 + 1]));
+            order[i] = i;
+        }
+        // 음이 아닌 double 은 비트 그대로 비교해도 순서가 같다.
+        RadixSort.sort(keys, order, 0, m);
+
+        UnionFind uf = new UnionFind(n);
+        for (int k = 0; k < m && uf.components() > 1; k++) {
+            int i = order[k];
+            if (uf.union(pairs[i * 2], pairs[i * 2 + 1])) {
+                tree[size++] = pairs[i * 2];
+                tree[size++] = pairs[i * 2 + 1];
+            }
+        }
+        return tree;
+    }
+
+    public static double weight(double[] x, double[] y) {
+        int[] tree = edges(x, y);
+        double total = 0;
+        for (int i = 0; i < tree.length; i += 2) {
+            total += Math.sqrt(squaredLength(x, y, tree[i], tree[i + 1]));
+        }
+        return total;
+    }
+
+    private static double squaredLength(double[] x, double[] y, int i, int j) {
+        double dx = x[i] - x[j];
+        double dy = y[i] - y[j];
+        return dx * dx + dy * dy;
+    }
+}
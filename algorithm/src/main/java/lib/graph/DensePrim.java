@@ -0,0 +1,111 @@
+package lib.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 인접 행렬 위에서 바로 도는 O(n^2) 프림.
+ * 행렬은 n * n 크기의 int 배열 하나 (matrix[i * n + j] 가 i-j 간선 가중치) 이고 대칭이라고 가정한다.
+ * 간선을 따로 만들지 않아서 행렬 말고는 O(n) 메모리만 쓴다.
+ * 정점 하나를 넣을 때마다 그 행으로 key 를 줄이면서 가장 작은 key 를 찾는 한 번의 훑기를 구간으로 나눠 ForkJoin 으로 돌린다.
+ */
+public final class DensePrim {
+    // 이보다 작은 구간은 나눠봐야 손해라 현재 스레드에서 바로 훑는다.
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+    private DensePrim() {
+    }
+
+    public static long weight(int[] matrix, int n) {
+        return weight(matrix, n, ForkJoinPool.commonPool());
+    }
+
+    public static long weight(int[] matrix, int n, ForkJoinPool pool) {
+        if (n <= 1) {
+            return 0;
+        }
+        int[] key = new int[n];
+        boolean[] done = new boolean[n];
+        Arrays.fill(key, Integer.MAX_VALUE);
+
+        long total = 0;
+        int u = 0;
+        done[u] = true;
+        for (int k = 1; k < n; k++) {
+            long best = n <= SEQUENTIAL_THRESHOLD
+                    ? scan(matrix, u * n, key, done, 0, n)
+                    : pool.invoke(new ScanTask(matrix, u * n, key, done, 0, n));
+            u = (int) best;
+            total += (int) (best >>> 32);
+            done[u] = true;
+        }
+        return total;
+    }
+
+    // row 행으로 from ~ to-1 정점의 key 를 줄이고, 아직 트리 밖인 정점 중 (key, 번호) 가 가장 작은 것을 묶어 돌려준다.
+    private static long scan(int[] matrix, int row, int[] key, boolean[] done, int from, int to) {
+        int bestKey = Integer.MAX_VALUE;
+        int best = -1;
+        for (int v = from; v < to; v++) {
+            if (done[v]) {
+                continue;
+            }
+            int w = matrix[row + v];
+            if (w < key[v]) {
+                key[v] = w;
+            }
+            if (best < 0 || key[v] < bestKey) {
+                bestKey = key[v];
+                best = v;
+            }
+        }
+        return pack(bestKey, best);
+    }
+
+    private static long pack(int key, int v) {
+        return (long) key << 32 | (v & 0xffffffffL);
+    }
+
+    // 먼저 나온 구간을 우선해서 순차 훑기와 같은 정점을 고른다.
+    private static long min(long a, long b) {
+        if ((int) a < 0) {
+            return b;
+        }
+        if ((int) b < 0) {
+            return a;
+        }
+        return (int) (b >>> 32) < (int) (a >>> 32) ? b : a;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ScanTask extends RecursiveTask<Long> {
+        private final int[] matrix;
+        private final int row;
+        private final int[] key;
+        private final boolean[] done;
+        private final int from;
+        private final int to;
+
+        ScanTask(int[] matrix, int row, int[] key, boolean[] done, int from, int to) {
+            this.matrix = matrix;
+            this.row = row;
+            this.key = key;
+            this.done = done;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return scan(matrix, row, key, done, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(matrix, row, key, done, from, mid);
+            left.fork();
+            long right = new ScanTask(matrix, row, key, done, mid, to).compute();
+            return min(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package lib.grid;
+
+import lib.sort.RadixSort;
+
+import java.util.Arrays;
+
+/**
+ * 높이 격자에서 상하좌우로 더 낮은 칸으로만 내려가는 경로 수.
+ * 만들 때 칸을 높이 내림차순으로 한 번 정렬해 두고 (높이 범위가 좁으면 계수 정렬, 아니면 기수 정렬), 질의마다 출발 칸부터 그 순서대로 경로 수를 더 낮은 이웃에게 밀어 준다.
+ * 재귀가 없어서 경로 길이가 칸 수만큼 길어도 스택을 쓰지 않는다. 높이가 같은 칸끼리는 오갈 수 없으므로 같은 높이 안의 순서는 상관없다.
+ * 닿은 칸이 드물 때는 높이 순서 번호를 힙에 넣어 닿은 칸만 꺼내고, 지나온 구간에서 닿은 칸이 빽빽하거나
+ * 힙이 남은 구간에 비해 커지면 나머지 구간을 차례로 훑는다.
+ * 칸 번호는 r * cols + c 이고, 경로 수가 long 을 넘으면 넘친 값 그대로 나온다.
+ */
+public final class DownhillPaths {
+    // 힙 원소 하나를 꺼내는 비용을 훑기 한 칸에 견준 값
+    private static final int HEAP_COST = 16;
+    // 이만큼 꺼내 보기 전에는 닿은 칸의 밀도를 믿지 않는다.
+    private static final int MIN_POPS = 1 << 10;
+    // 높이 범위가 max(칸 수, 이 값) 보다 좁으면 기수 정렬 대신 계수 정렬을 쓴다.
+    private static final int COUNTING_RANGE = 1 << 16;
+
+    private final int rows;
+    private final int cols;
+    private final int[] heights;
+    // order[i] 는 i 번째로 높은 칸, pos 는 그 역함수
+    private final int[] order;
+    private final int[] pos;
+    // ways 는 질의 밖에서는 전부 0 이다. touched 는 힙으로 도는 동안 값이 생긴 칸이다.
+    private final long[] ways;
+    private int[] heap = new int[16];
+    private int heapSize;
+    private int[] touched = new int[16];
+    private int touchedCount;
+    // 차례로 훑기 시작한 높이 순서 번호. 훑지 않았으면 -1
+    private int scannedFrom;
+    // counts 의 정렬 키, 질의 번호와 정렬 버퍼. 질의 묶음이 커질 때만 늘린다.
+    private long[] keys = new long[0];
+    private int[] bySource = new int[0];
+    private long[] keyBuffer = new long[0];
+    private int[] valueBuffer = new int[0];
+    private final int[] radixCount = new int[RadixSort.RADIX];
+
+    public DownhillPaths(int[] heights, int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.heights = heights;
+        int size = rows * cols;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int h : heights) {
+            min = Math.min(min, h);
+            max = Math.max(max, h);
+        }
+        order = new int[size];
+        if (size > 0 && (long) max - min < Math.max(size, COUNTING_RANGE)) {
+            // 높이 범위가 좁으면 계수 정렬
+            int[] start = new int[max - min + 2];
+            for (int h : heights) {
+                start[max - h + 1]++;
+            }
+            for (int i = 1; i < start.length; i++) {
+                start[i] += start[i - 1];
+            }
+            for (int i = 0; i < size; i++) {
+                order[start[max - heights[i]]++] = i;
+            }
+        } else {
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = (long) Integer.MAX_VALUE - heights[i];
+                order[i] = i;
+            }
+            RadixSort.sort(keys, order, 0, size);
+        }
+        pos = new int[size];
+        for (int i = 0; i < size; i++) {
+            pos[order[i]] = i;
+        }
+        ways = new long[size];
+    }
+
+    // source 에서 target 까지 내려가는 경로 수
+    public long count(int source, int target) {
+        if (source == target) {
+            return 1;
+        }
+        if (pos[source] > pos[target]) {
+            return 0;
+        }
+        sweep(source, pos[target]);
+        long result = ways[target];
+        clear(pos[target]);
+        return result;
+    }
+
+    // pairs[2i] 에서 pairs[2i + 1] 까지의 경로 수를 out[i] 에 (from <= i < to).
+    // 출발 칸이 같은 질의는 한 번의 훑기로 같이 답한다.
+    public void counts(int[] pairs, int from, int to, long[] out) {
+        int n = to - from;
+        if (keys.length < n) {
+            keys = new long[n];
+            bySource = new int[n];
+            keyBuffer = new long[n];
+            valueBuffer = new int[n];
+        }
+        long[] keys = this.keys;
+        int[] bySource = this.bySource;
+        for (int i = 0; i < n; i++) {
+            keys[i] = pos[pairs[(from + i) * 2]];
+            bySource[i] = from + i;
+        }
+        RadixSort.sort(keys, bySource, 0, n, keyBuffer, valueBuffer, radixCount);
+        for (int lo = 0, hi; lo < n; lo = hi) {
+            int source = pairs[bySource[lo] * 2];
+            int last = pos[source];
+            for (hi = lo; hi < n && keys[hi] == keys[lo]; hi++) {
+                last = Math.max(last, pos[pairs[bySource[hi] * 2 + 1]]);
+            }
+            sweep(source, last);
+            for (int i = lo; i < hi; i++) {
+                int q = bySource[i];
+                int target = pairs[q * 2 + 1];
+                out[q] = target == source ? 1 : pos[target] < pos[source] ? 0 : ways[target];
+            }
+            clear(last);
+        }
+    }
+
+    // 높이 순서로 pos[source] 부터 last 까지 경로 수를 민다.
+    private void sweep(int source, int last) {
+        scannedFrom = -1;
+        heapSize = 0;
+        touchedCount = 0;
+        ways[source] = 1;
+        touch(source, last);
+        int first = pos[source];
+        long pops = 0;
+        while (heapSize > 0) {
+            if ((long) heapSize * HEAP_COST > last - heap[0] || pops > MIN_POPS && pops * HEAP_COST > heap[0] - first) {
+                scannedFrom = heap[0];
+                heapSize = 0;
+                for (int i = scannedFrom; i < last; i++) {
+                    push(order[i], -1);
+                }
+                return;
+            }
+            int p = pop();
+            pops++;
+            if (p >= last) {
+                return;
+            }
+            push(order[p], last);
+        }
+    }
+
+    // u 의 경로 수를 더 낮은 이웃에게 더한다. last 가 0 이상이면 처음 값이 생긴 이웃을 힙에 넣는다.
+    private void push(int u, int last) {
+        long w = ways[u];
+        if (w == 0) {
+            return;
+        }
+        int h = heights[u];
+        int r = u / cols;
+        int c = u - r * cols;
+        if (r > 0 && heights[u - cols] < h) {
+            add(u - cols, w, last);
+        }
+        if (r + 1 < rows && heights[u + cols] < h) {
+            add(u + cols, w, last);
+        }
+        if (c > 0 && heights[u - 1] < h) {
+            add(u - 1, w, last);
+        }
+        if (c + 1 < cols && heights[u + 1] < h) {
+            add(u + 1, w, last);
+        }
+    }
+
+    private void add(int v, long w, int last) {
+        if (ways[v] == 0 && last >= 0) {
+            touch(v, last);
+        }
+        ways[v] += w;
+    }
+
+    private void touch(int v, int last) {
+        if (touchedCount == touched.length) {
+            touched = Arrays.copyOf(touched, touchedCount * 2);
+        }
+        touched[touchedCount++] = v;
+        if (pos[v] > last) {
+            return;
+        }
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+        }
+        int i = heapSize++;
+        int p = pos[v];
+        while (i > 0 && heap[(i - 1) >> 1] > p) {
+            heap[i] = heap[(i - 1) >> 1];
+            i = (i - 1) >> 1;
+        }
+        heap[i] = p;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int p = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= p) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = p;
+        return top;
+    }
+
+    // sweep 이 건드린 칸을 0 으로 되돌린다. 훑은 구간은 그 칸과 이웃을 모두 지운다.
+    private void clear(int last) {
+        for (int i = 0; i < touchedCount; i++) {
+            ways[touched[i]] = 0;
+        }
+        if (scannedFrom < 0) {
+            return;
+        }
+        for (int i = scannedFrom; i <= last; i++) {
+            int u = order[i];
+            int r = u / cols;
+            int c = u - r * cols;
+            ways[u] = 0;
+            if (r > 0) {
+                ways[u - cols] = 0;
+            }
+            if (r + 1 < rows) {
+                ways[u + cols] = 0;
+            }
+            if (c > 0) {
+                ways[u - 1] = 0;
+            }
+            if (c + 1 < cols) {
+                ways[u + 1] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package lib.grid;
+
+import java.util.Arrays;
+
+/**
+ * 격자 BFS 엔진. 칸은 (layer, r, c) 를 한 줄로 편 int 번호로 다룬다.
+ * 격자 바깥에 한 칸짜리 테두리를 둘러서 (행 rows + 2, 열 cols + 2) 이웃 번호를 미리 계산한 오프셋으로만 구하고,
+ * 테두리 칸은 "격자 밖" 으로 쓸 수 있다. 층(layer)은 같은 칸의 다른 상태(방향 등)를 나타내고 층 사이 이동도 이웃으로 본다.
+ * 큐는 칸 수만큼 미리 잡아둔 int 링 버퍼라 탐색 중에는 할당이 없다.
+ */
+public final class GridBfs {
+
+    // from 에서 아직 방문하지 않은 to 로 갈 수 있는지. true 를 돌려주면 to 를 방문 처리한다.
+    @FunctionalInterface
+    public interface Passable {
+        boolean test(int from, int to);
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int layers;
+    private final int width;
+    private final int layerSize;
+    private final int[][] offsets;
+    private final int[] dist;
+    private final int[] queue;
+    private int head;
+    private int tail;
+    private int size;
+
+    public GridBfs(int rows, int cols) {
+        this(rows, cols, 1);
+    }
+
+    public GridBfs(int rows, int cols, int layers) {
+        this.rows = rows;
+        this.cols = cols;
+        this.layers = layers;
+        this.width = cols + 2;
+        this.layerSize = (rows + 2) * width;
+        this.offsets = new int[layers][];
+        for (int l = 0; l < layers; l++) {
+            int[] offset = new int[4 + layers - 1];
+            offset[0] = -width;
+            offset[1] = width;
+            offset[2] = -1;
+            offset[3] = 1;
+            int k = 4;
+            for (int other = 0; other < layers; other++) {
+                if (other != l) {
+                    offset[k++] = (other - l) * layerSize;
+                }
+            }
+            offsets[l] = offset;
+        }
+        this.dist = new int[Math.multiplyExact(layerSize, layers)];
+        this.queue = new int[dist.length];
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(dist, -1);
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    public int cells() {
+        return dist.length;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int layers() {
+        return layers;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    // r, c 는 테두리를 뺀 0 부터의 좌표. 테두리는 r 또는 c 가 -1, rows, cols 인 칸이다.
+    public int index(int r, int c) {
+        return (r + 1) * width + c + 1;
+    }
+
+    public int index(int layer, int r, int c) {
+        return layer * layerSize + (r + 1) * width + c + 1;
+    }
+
+    public int row(int i) {
+        return i % layerSize / width - 1;
+    }
+
+    public int col(int i) {
+        return i % width - 1;
+    }
+
+    public int layer(int i) {
+        return i / layerSize;
+    }
+
+    public int cell(int i) {
+        return i % layerSize;
+    }
+
+    public boolean isBorder(int i) {
+        int r = i % layerSize / width;
+        int c = i % width;
+        return r == 0 || c == 0 || r == rows + 1 || c == cols + 1;
+    }
+
+    public int dist(int i) {
+        return dist[i];
+    }
+
+    public boolean visited(int i) {
+        return dist[i] >= 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 시작점을 여러 개 넣을 수 있다.
+    public void addSource(int i) {
+        offer(i, 0);
+    }
+
+    // 이미 방문한 칸이면 무시한다. 탐색 도중에 나중에 열린 칸을 넣을 때도 쓴다.
+    public boolean offer(int i, int d) {
+        if (dist[i] >= 0) {
+            return false;
+        }
+        dist[i] = d;
+        queue[tail] = i;
+        tail = tail + 1 == queue.length ? 0 : tail + 1;
+        size++;
+        return true;
+    }
+
+    private int poll() {
+        int i = queue[head];
+        head = head + 1 == queue.length ? 0 : head + 1;
+        size--;
+        return i;
+    }
+
+    private void expand(int now, Passable passable) {
+        int layer = now / layerSize;
+        int base = layer * layerSize;
+        int end = base + layerSize;
+        int d = dist[now] + 1;
+        int[] offset = offsets[layer];
+        for (int k = 0; k < offset.length; k++) {
+            int next = now + offset[k];
+            if (k < 4 && (next < base || next >= end)) {
+                continue;
+            }
+            if (dist[next] < 0 && passable.test(now, next)) {
+                offer(next, d);
+            }
+        }
+    }
+
+    // 큐가 빌 때까지 탐색하고 큐에서 꺼낸 칸 수를 돌려준다.
+    public int run(Passable passable) {
+        int count = 0;
+        while (size > 0) {
+            expand(poll(), passable);
+            count++;
+        }
+        return count;
+    }
+
+    // 지금 큐에 있는 거리 한 층만 펼친다. 새로 큐에 들어간 칸 수를 돌려준다.
+    public int step(Passable passable) {
+        int layerCount = size;
+        for (int k = 0; k < layerCount; k++) {
+            expand(poll(), passable);
+        }
+        return size;
+    }
+}
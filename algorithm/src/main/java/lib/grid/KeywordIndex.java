@@ -0,0 +1,346 @@
+package lib.grid;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 글자판에 여러 단어를 물어볼 때 쓰는 색인. 세는 규칙은 LetterBoard 와 같다.
+ * 만들 때 칸을 글자별로 모아 행 우선 순서와 열 우선 순서 두 가지로 들고 있어서, 글자 A 층에서 글자 B 층으로 넘어가는 비용이
+ * 판 크기가 아니라 A, B 칸 수에만 비례한다. 0 이 아닌 칸이 적은 층은 그 칸에서 이분 탐색으로 닿는 B 칸만 더한다.
+ * 단어별 답과 접두사 층 (CHECKPOINT 글자마다, 그리고 단어 전체) 을 LRU 로 캐시해서
+ * 같은 단어나 앞부분이 같은 단어는 캐시된 가장 긴 접두사부터 이어서 센다.
+ * 버퍼와 캐시를 공유하므로 한 객체를 여러 스레드에서 같이 쓰면 안 된다.
+ */
+public final class KeywordIndex {
+    private static final int LETTERS = 256;
+    private static final int CHECKPOINT = 8;
+    // 0 이 아닌 칸 하나를 따로 처리하는 비용 (이분 탐색 두 번) 을 훑기 한 칸에 견준 값
+    private static final int SPARSE_COST = 32;
+
+    // 글자 l 의 칸은 cellsByRow[start[l] ~ start[l + 1] - 1] 에 칸 번호 오름차순으로 있다. 층 값도 이 순서 (rank) 로 둔다.
+    private final int[] start;
+    private final int[] cellsByRow;
+    // 같은 구간을 열 우선 순서로 본 것. rank 와 열 우선 키 (c * rows + r), 그리고 rank 에서 열 우선 위치로 가는 표
+    private final int[] rankByCol;
+    private final int[] keyByCol;
+    private final int[] colPos;
+    // 각 칸에서 닿는 행 창 [rowLow, rowHigh] 와 열 창 [colLow, colHigh] 를 같은 순서의 키로 미리 구해 둔다.
+    private final int[] rowLow;
+    private final int[] rowHigh;
+    private final int[] colLow;
+    private final int[] colHigh;
+
+    // cur 는 active 에 있는 rank 말고는 항상 0 이고, next 는 step 밖에서는 전부 0 이다.
+    private long[] cur;
+    private long[] next;
+    private int[] active;
+    private int[] nextActive;
+    private int activeCount;
+    private final long[] prefix;
+
+    private final long layerBudget;
+    private long layerUsed;
+    private final LinkedHashMap<String, Layer> layers = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> answers;
+    private long hits;
+    private long misses;
+
+    public KeywordIndex(byte[] cells, int rows, int cols, int k) {
+        this(cells, rows, cols, k, 1 << 22, 1 << 16);
+    }
+
+    // layerBudget 은 캐시할 층의 0 이 아닌 칸 수의 합, answerCapacity 는 캐시할 답의 개수다.
+    public KeywordIndex(byte[] cells, int rows, int cols, int k, long layerBudget, int answerCapacity) {
+        this.layerBudget = layerBudget;
+        this.answers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > answerCapacity;
+            }
+        };
+        int size = rows * cols;
+        start = new int[LETTERS + 1];
+        for (int i = 0; i < size; i++) {
+            start[(cells[i] & 0xff) + 1]++;
+        }
+        int largest = 0;
+        for (int l = 0; l < LETTERS; l++) {
+            largest = Math.max(largest, start[l + 1]);
+            start[l + 1] += start[l];
+        }
+        cellsByRow = new int[size];
+        rowLow = new int[size];
+        rowHigh = new int[size];
+        int[] fill = Arrays.copyOf(start, LETTERS);
+        for (int i = 0; i < size; i++) {
+            int p = fill[cells[i] & 0xff]++;
+            int r = i / cols;
+            int c = i - r * cols;
+            cellsByRow[p] = i;
+            rowLow[p] = r * cols + Math.max(0, c - k);
+            rowHigh[p] = r * cols + Math.min(cols - 1, c + k);
+        }
+        // 열 우선으로 훑으며 같은 글자끼리의 위치를 다시 센다.
+        rankByCol = new int[size];
+        keyByCol = new int[size];
+        colPos = new int[size];
+        colLow = new int[size];
+        colHigh = new int[size];
+        int[] rank = new int[size];
+        for (int l = 0; l < LETTERS; l++) {
+            for (int p = start[l]; p < start[l + 1]; p++) {
+                rank[cellsByRow[p]] = p - start[l];
+            }
+        }
+        System.arraycopy(start, 0, fill, 0, LETTERS);
+        for (int c = 0; c < cols; c++) {
+            for (int r = 0; r < rows; r++) {
+                int cell = r * cols + c;
+                int l = cells[cell] & 0xff;
+                int p = fill[l]++;
+                rankByCol[p] = rank[cell];
+                colPos[start[l] + rank[cell]] = p - start[l];
+                keyByCol[p] = c * rows + r;
+                colLow[p] = c * rows + Math.max(0, r - k);
+                colHigh[p] = c * rows + Math.min(rows - 1, r + k);
+            }
+        }
+        cur = new long[largest];
+        next = new long[largest];
+        active = new int[largest];
+        nextActive = new int[largest];
+        prefix = new long[largest + 1];
+    }
+
+    public long count(CharSequence keyword) {
+        byte[] bytes = new byte[keyword.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) keyword.charAt(i);
+        }
+        return count(bytes, 0, bytes.length);
+    }
+
+    // keyword[from, to) 를 만드는 경로 수
+    public long count(byte[] keyword, int from, int to) {
+        int len = to - from;
+        if (len <= 0) {
+            return 0;
+        }
+        String key = new String(keyword, from, len, StandardCharsets.ISO_8859_1);
+        Long answer = answers.get(key);
+        if (answer != null) {
+            hits++;
+            return answer;
+        }
+        misses++;
+
+        // 캐시된 가장 긴 접두사 층에서 시작한다.
+        int done = 0;
+        long total = 0;
+        for (int p = len; p >= 1 && done == 0; p--) {
+            Layer layer = layers.get(key.substring(0, p));
+            if (layer != null) {
+                activeCount = layer.ranks.length;
+                for (int i = 0; i < activeCount; i++) {
+                    active[i] = layer.ranks[i];
+                    cur[active[i]] = layer.values[i];
+                    total += layer.values[i];
+                }
+                done = p;
+            }
+        }
+        if (done == 0) {
+            int l = keyword[from] & 0xff;
+            activeCount = start[l + 1] - start[l];
+            for (int i = 0; i < activeCount; i++) {
+                active[i] = i;
+                cur[i] = 1;
+            }
+            total = activeCount;
+            done = 1;
+        }
+        for (; done < len && total > 0; done++) {
+            total = step(keyword[from + done - 1] & 0xff, keyword[from + done] & 0xff);
+            if ((done + 1) % CHECKPOINT == 0 || done + 1 == len) {
+                remember(key.substring(0, done + 1));
+            }
+        }
+        for (int i = 0; i < activeCount; i++) {
+            cur[active[i]] = 0;
+        }
+        answers.put(key, total);
+        return total;
+    }
+
+    // 지금 cur 에 있는 층을 prefix 이름으로 캐시한다.
+    private void remember(String name) {
+        if (activeCount > layerBudget) {
+            return;
+        }
+        int[] ranks = Arrays.copyOf(active, activeCount);
+        long[] values = new long[activeCount];
+        for (int i = 0; i < activeCount; i++) {
+            values[i] = cur[ranks[i]];
+        }
+        Layer old = layers.put(name, new Layer(ranks, values));
+        if (old != null) {
+            layerUsed -= old.ranks.length;
+        }
+        layerUsed += activeCount;
+        Iterator<Layer> it = layers.values().iterator();
+        while (layerUsed > layerBudget) {
+            layerUsed -= it.next().ranks.length;
+            it.remove();
+        }
+    }
+
+    // 글자 a 층 (cur) 에서 글자 b 층을 만들어 cur 로 옮기고 그 합을 돌려준다.
+    private long step(int a, int b) {
+        int aLen = start[a + 1] - start[a];
+        int bLen = start[b + 1] - start[b];
+        int touched;
+        if ((long) activeCount * SPARSE_COST < aLen + bLen) {
+            touched = sparseStep(a, b);
+        } else {
+            denseStep(a, b);
+            touched = 0;
+            for (int j = 0; j < bLen; j++) {
+                if (next[j] != 0) {
+                    nextActive[touched++] = j;
+                }
+            }
+        }
+        // 같은 글자로 이어지면 제자리 (0 칸 이동) 가 행과 열에서 한 번씩 더해졌다.
+        for (int i = 0; i < activeCount; i++) {
+            int r = active[i];
+            if (a == b) {
+                next[r] -= 2 * cur[r];
+            }
+            cur[r] = 0;
+        }
+        long[] temp = cur;
+        cur = next;
+        next = temp;
+        int[] tempActive = active;
+        active = nextActive;
+        nextActive = tempActive;
+        activeCount = touched;
+        long total = 0;
+        for (int i = 0; i < touched; i++) {
+            total += cur[active[i]];
+        }
+        return total;
+    }
+
+    // 0 이 아닌 a 칸마다 창 안의 b 칸을 이분 탐색으로 찾아 더한다. 새로 값이 생긴 b 칸은 nextActive 에 모은다.
+    private int sparseStep(int a, int b) {
+        int aFrom = start[a];
+        int bFrom = start[b];
+        int bTo = start[b + 1];
+        int touched = 0;
+        for (int i = 0; i < activeCount; i++) {
+            int r = active[i];
+            long v = cur[r];
+            if (v == 0) {
+                continue;
+            }
+            int high = rowHigh[aFrom + r];
+            for (int j = lowerBound(cellsByRow, bFrom, bTo, rowLow[aFrom + r]); j < bTo && cellsByRow[j] <= high; j++) {
+                int t = j - bFrom;
+                if (next[t] == 0) {
+                    nextActive[touched++] = t;
+                }
+                next[t] += v;
+            }
+            int p = aFrom + colPos[aFrom + r];
+            high = colHigh[p];
+            for (int j = lowerBound(keyByCol, bFrom, bTo, colLow[p]); j < bTo && keyByCol[j] <= high; j++) {
+                int t = rankByCol[j];
+                if (next[t] == 0) {
+                    nextActive[touched++] = t;
+                }
+                next[t] += v;
+            }
+        }
+        return touched;
+    }
+
+    // 모든 b 칸에 대해 창 안의 a 값 합을 누적합과 두 포인터로 구한다.
+    private void denseStep(int a, int b) {
+        int aFrom = start[a];
+        int aLen = start[a + 1] - aFrom;
+        int bFrom = start[b];
+        int bLen = start[b + 1] - bFrom;
+
+        // 같은 행의 [c-k, c+k]
+        for (int i = 0; i < aLen; i++) {
+            prefix[i + 1] = prefix[i] + cur[i];
+        }
+        int lo = 0;
+        int hi = 0;
+        for (int j = 0; j < bLen; j++) {
+            int low = rowLow[bFrom + j];
+            int high = rowHigh[bFrom + j];
+            while (lo < aLen && cellsByRow[aFrom + lo] < low) {
+                lo++;
+            }
+            while (hi < aLen && cellsByRow[aFrom + hi] <= high) {
+                hi++;
+            }
+            next[j] = prefix[hi] - prefix[lo];
+        }
+
+        // 같은 열의 [r-k, r+k]
+        for (int i = 0; i < aLen; i++) {
+            prefix[i + 1] = prefix[i] + cur[rankByCol[aFrom + i]];
+        }
+        lo = 0;
+        hi = 0;
+        for (int j = 0; j < bLen; j++) {
+            int low = colLow[bFrom + j];
+            int high = colHigh[bFrom + j];
+            while (lo < aLen && keyByCol[aFrom + lo] < low) {
+                lo++;
+            }
+            while (hi < aLen && keyByCol[aFrom + hi] <= high) {
+                hi++;
+            }
+            next[rankByCol[bFrom + j]] += prefix[hi] - prefix[lo];
+        }
+    }
+
+    // keys[from, to) 에서 key 이상인 첫 위치
+    private static int lowerBound(int[] keys, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (keys[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    // 캐시한 층. 0 이 아닌 칸의 rank 와 값만 둔다.
+    private static final class Layer {
+        final int[] ranks;
+        final long[] values;
+
+        Layer(int[] ranks, long[] values) {
+            this.ranks = ranks;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package lib.grid;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 글자판 위에서 상하좌우로 1 ~ k 칸씩 뛰며 단어를 만드는 경로 수를 세는 DP (같은 칸을 다시 밟아도 된다).
+ * 층 d 의 값은 "단어의 앞 d+1 글자를 만들고 그 칸에서 끝나는 경로 수" 이고, 두 층만 번갈아 쓴다.
+ * 다음 층의 한 칸은 같은 행 [c-k, c+k] 와 같은 열 [r-k, r+k] 구간 합에서 자기 자신을 두 번 뺀 값이라
+ * 행 / 열 누적합으로 k 와 상관없이 층마다 O(nm) 이다. 행 단위로 나눠 ForkJoin 으로 계산한다.
+ * 버퍼를 재사용하므로 한 객체로 동시에 여러 단어를 세면 안 된다.
+ */
+public final class LetterBoard {
+    // 한 작업이 맡는 칸 수의 하한
+    private static final int SEQUENTIAL_CELLS = 1 << 14;
+
+    private final int rows;
+    private final int cols;
+    private final int k;
+    private final byte[] cells;
+    private final ForkJoinPool pool;
+    private long[] cur;
+    private long[] next;
+    // colPrefix[r * cols + c] 는 c 열의 0 ~ r-1 행 합
+    private final long[] colPrefix;
+
+    // cells[r * cols + c] 가 r 행 c 열의 글자다.
+    public LetterBoard(byte[] cells, int rows, int cols, int k) {
+        this(cells, rows, cols, k, ForkJoinPool.commonPool());
+    }
+
+    public LetterBoard(byte[] cells, int rows, int cols, int k, ForkJoinPool pool) {
+        this.rows = rows;
+        this.cols = cols;
+        this.k = k;
+        this.cells = cells;
+        this.pool = pool;
+        int size = Math.multiplyExact(rows, cols);
+        cur = new long[size];
+        next = new long[size];
+        colPrefix = new long[size + cols];
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public byte letter(int cell) {
+        return cells[cell];
+    }
+
+    // keyword[from, to) 를 만드는 경로 수
+    public long count(byte[] keyword, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        byte first = keyword[from];
+        long total = 0;
+        for (int c = 0; c < cur.length; c++) {
+            cur[c] = cells[c] == first ? 1 : 0;
+            total += cur[c];
+        }
+        for (int d = from + 1; d < to && total > 0; d++) {
+            total = step(keyword[d]);
+            long[] temp = cur;
+            cur = next;
+            next = temp;
+        }
+        return total;
+    }
+
+    // cur 층에서 letter 칸들의 다음 층을 next 에 채우고 그 합을 돌려준다.
+    private long step(byte letter) {
+        int rowsPerTask = Math.max(1, SEQUENTIAL_CELLS / Math.max(cols, 1));
+        if (rows <= rowsPerTask) {
+            columnPrefix(0, cols);
+            return rowStep(letter, 0, rows, new long[cols + 1]);
+        }
+        pool.invoke(new ColumnTask(0, cols, Math.max(1, SEQUENTIAL_CELLS / rows)));
+        return pool.invoke(new RowTask(letter, 0, rows, rowsPerTask));
+    }
+
+    private void columnPrefix(int from, int to) {
+        for (int c = from; c < to; c++) {
+            colPrefix[c] = 0;
+        }
+        for (int r = 0; r < rows; r++) {
+            int base = r * cols;
+            for (int c = from; c < to; c++) {
+                colPrefix[base + cols + c] = colPrefix[base + c] + cur[base + c];
+            }
+        }
+    }
+
+    private long rowStep(byte letter, int from, int to, long[] rowPrefix) {
+        long total = 0;
+        for (int r = from; r < to; r++) {
+            int base = r * cols;
+            for (int c = 0; c < cols; c++) {
+                rowPrefix[c + 1] = rowPrefix[c] + cur[base + c];
+            }
+            int top = Math.max(0, r - k) * cols;
+            int bottom = Math.min(rows, r + k + 1) * cols;
+            for (int c = 0; c < cols; c++) {
+                int i = base + c;
+                if (cells[i] != letter) {
+                    next[i] = 0;
+                    continue;
+                }
+                long row = rowPrefix[Math.min(cols, c + k + 1)] - rowPrefix[Math.max(0, c - k)];
+                long col = colPrefix[bottom + c] - colPrefix[top + c];
+                next[i] = row + col - 2 * cur[i];
+                total += next[i];
+            }
+        }
+        return total;
+    }
+
+    @SuppressWarnings("serial")
+    private final class ColumnTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        ColumnTask(int from, int to, int grain) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                columnPrefix(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ColumnTask(from, mid, grain), new ColumnTask(mid, to, grain));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class RowTask extends RecursiveTask<Long> {
+        private final byte letter;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        RowTask(byte letter, int from, int to, int grain) {
+            this.letter = letter;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= grain) {
+                return rowStep(letter, from, to, new long[cols + 1]);
+            }
+            int mid = (from + to) >>> 1;
+            RowTask left = new RowTask(letter, from, mid, grain);
+            left.fork();
+            long right = new RowTask(letter, mid, to, grain).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package lib.grid;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일을 int / long 배열처럼 읽고 쓰는 매핑. 2GB 를 넘는 파일은 1GB 조각으로 나눠서 매핑한다.
+ * 조각 크기가 8 의 배수라서 원소 하나가 두 조각에 걸치지 않는다.
+ */
+final class MappedArray implements AutoCloseable {
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+
+    private MappedArray(FileChannel channel, long bytes, FileChannel.MapMode mode, ByteOrder order) throws IOException {
+        this.channel = channel;
+        int count = (int) ((bytes + SEGMENT_MASK) >>> SEGMENT_BITS);
+        segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long offset = (long) i << SEGMENT_BITS;
+            segments[i] = channel.map(mode, offset, Math.min(bytes - offset, 1L << SEGMENT_BITS));
+            segments[i].order(order);
+        }
+    }
+
+    // 이미 있는 파일을 읽기 전용으로
+    static MappedArray read(Path path, ByteOrder order) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new MappedArray(channel, channel.size(), FileChannel.MapMode.READ_ONLY, order);
+    }
+
+    // bytes 크기의 작업 파일. 새로 늘어난 부분은 0 으로 읽힌다.
+    static MappedArray create(Path path, long bytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(0);
+        return new MappedArray(channel, bytes, FileChannel.MapMode.READ_WRITE, ByteOrder.nativeOrder());
+    }
+
+
+    int getInt(long index) {
+        long at = index << 2;
+        return segments[(int) (at >>> SEGMENT_BITS)].getInt((int) (at & SEGMENT_MASK));
+    }
+
+    long getLong(long index) {
+        long at = index << 3;
+        return segments[(int) (at >>> SEGMENT_BITS)].getLong((int) (at & SEGMENT_MASK));
+    }
+
+    void putLong(long index, long value) {
+        long at = index << 3;
+        segments[(int) (at >>> SEGMENT_BITS)].putLong((int) (at & SEGMENT_MASK), value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
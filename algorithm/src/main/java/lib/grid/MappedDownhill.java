@@ -0,0 +1,231 @@
+package lib.grid;
+
+import lib.sort.RadixSort;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 힙에 올라가지 않는 큰 높이 격자의 내리막 경로 수 (DownhillPaths 의 파일 판).
+ * 높이 파일은 r * cols + c 순서의 big-endian int 배열이고 (DataOutputStream.writeInt 와 같다) 메모리 매핑해서 읽는다.
+ * 만들 때 높이 히스토그램으로 높이 구간 (band) 을 나눠 band 하나가 bandCells 칸을 넘지 않게 하고,
+ * 칸 번호를 band 별로 order 파일에 흩뿌린 뒤 band 마다 메모리로 읽어 기수 정렬해서 되쓴다.
+ * 그러면 order 파일 전체가 높이 내림차순이 되고, 질의는 그 파일을 출발 높이부터 도착 높이까지 차례로 읽으며
+ * 경로 수를 scratch 파일 (칸마다 long) 에서 더 낮은 이웃으로 민다. 민 칸은 바로 0 으로 되돌려서 scratch 는 질의 밖에서 항상 0 이다.
+ * 힙에는 band 하나 크기의 버퍼와 band 표만 잡으므로 격자 크기와 상관없이 쓰는 메모리가 bandCells 로 정해진다.
+ */
+public final class MappedDownhill implements AutoCloseable {
+    private static final int BUCKETS = 1 << 16;
+
+    private final int rows;
+    private final int cols;
+    private final MappedArray heights;
+    private final MappedArray order;
+    private final MappedArray scratch;
+    // band b 는 높이 [bandLo[b], bandHi[b]] 이고 order 파일의 [bandStart[b], bandStart[b + 1]) 에 있다. 높은 band 가 먼저다.
+    private int bands;
+    private int[] bandLo = new int[16];
+    private int[] bandHi = new int[16];
+    private long[] bandStart;
+
+    public static MappedDownhill build(Path heights, int rows, int cols, Path order, Path scratch) throws IOException {
+        return build(heights, rows, cols, order, scratch, 1 << 20);
+    }
+
+    public static MappedDownhill build(Path heights, int rows, int cols, Path order, Path scratch, int bandCells) throws IOException {
+        MappedArray h = MappedArray.read(heights, ByteOrder.BIG_ENDIAN);
+        long size = (long) rows * cols;
+        MappedArray o = MappedArray.create(order, size * Long.BYTES);
+        MappedArray s = MappedArray.create(scratch, size * Long.BYTES);
+        MappedDownhill downhill = new MappedDownhill(h, rows, cols, o, s);
+        downhill.sortBands(bandCells);
+        return downhill;
+    }
+
+    private MappedDownhill(MappedArray heights, int rows, int cols, MappedArray order, MappedArray scratch) {
+        this.rows = rows;
+        this.cols = cols;
+        this.heights = heights;
+        this.order = order;
+        this.scratch = scratch;
+    }
+
+    public int height(long cell) {
+        return heights.getInt(cell);
+    }
+
+    // source 에서 target 까지 내려가는 경로 수. 칸 번호는 r * cols + c 다.
+    public long count(long source, long target) {
+        if (source == target) {
+            return 1;
+        }
+        int top = heights.getInt(source);
+        int bottom = heights.getInt(target);
+        if (top <= bottom) {
+            return 0;
+        }
+        long result = 0;
+        scratch.putLong(source, 1);
+        for (long p = bandStart[band(top)], end = bandStart[band(bottom) + 1]; p < end; p++) {
+            long u = order.getLong(p);
+            long w = scratch.getLong(u);
+            if (w == 0) {
+                continue;
+            }
+            scratch.putLong(u, 0);
+            if (u == target) {
+                result = w;
+                continue;
+            }
+            int h = heights.getInt(u);
+            long r = u / cols;
+            long c = u - r * cols;
+            if (r > 0) {
+                push(u - cols, h, bottom, w);
+            }
+            if (r + 1 < rows) {
+                push(u + cols, h, bottom, w);
+            }
+            if (c > 0) {
+                push(u - 1, h, bottom, w);
+            }
+            if (c + 1 < cols) {
+                push(u + 1, h, bottom, w);
+            }
+        }
+        return result;
+    }
+
+    // 도착 높이보다 낮은 칸은 도착 칸에 닿을 수 없으니 밀지 않는다. 그래서 값이 생기는 칸은 모두 질의 구간 안에 있다.
+    private void push(long v, int h, int bottom, long w) {
+        int hv = heights.getInt(v);
+        if (hv < h && hv >= bottom) {
+            scratch.putLong(v, scratch.getLong(v) + w);
+        }
+    }
+
+    // 높이 h 가 속한 band
+    private int band(int h) {
+        int lo = 0;
+        int hi = bands - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (bandLo[mid] > h) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void sortBands(int bandCells) {
+        long size = (long) rows * cols;
+        if (size == 0) {
+            bandStart = new long[1];
+            return;
+        }
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (long i = 0; i < size; i++) {
+            int h = heights.getInt(i);
+            min = Math.min(min, h);
+            max = Math.max(max, h);
+        }
+        long[] counts = new long[16];
+        counts = plan(min, max, bandCells, counts);
+
+        // band 크기대로 자리를 잡고 칸 번호를 흩뿌린다.
+        bandStart = new long[bands + 1];
+        for (int b = 0; b < bands; b++) {
+            bandStart[b + 1] = bandStart[b] + counts[b];
+        }
+        long[] cursor = Arrays.copyOf(bandStart, bands);
+        for (long i = 0; i < size; i++) {
+            order.putLong(cursor[band(heights.getInt(i))]++, i);
+        }
+
+        // 높이가 여러 개인 band 만 정렬한다. 높이가 하나뿐이면 순서가 상관없다.
+        long[] cells = new long[0];
+        long[] keys = new long[0];
+        int[] index = new int[0];
+        long[] keyBuffer = new long[0];
+        int[] indexBuffer = new int[0];
+        int[] radixCount = new int[RadixSort.RADIX];
+        for (int b = 0; b < bands; b++) {
+            if (bandLo[b] == bandHi[b]) {
+                continue;
+            }
+            int n = (int) counts[b];
+            if (cells.length < n) {
+                cells = new long[n];
+                keys = new long[n];
+                index = new int[n];
+                keyBuffer = new long[n];
+                indexBuffer = new int[n];
+            }
+            for (int i = 0; i < n; i++) {
+                cells[i] = order.getLong(bandStart[b] + i);
+                keys[i] = (long) bandHi[b] - heights.getInt(cells[i]);
+                index[i] = i;
+            }
+            RadixSort.sort(keys, index, 0, n, keyBuffer, indexBuffer, radixCount);
+            for (int i = 0; i < n; i++) {
+                order.putLong(bandStart[b] + i, cells[index[i]]);
+            }
+        }
+    }
+
+    // 높이 [lo, hi] 를 히스토그램 한 번으로 나눠 band 를 높은 쪽부터 붙인다. counts[b] 에 band b 의 칸 수를 채운다.
+    // 칸이 너무 많은 버킷은 높이가 하나가 아니면 그 버킷만 다시 나눈다.
+    private long[] plan(int lo, int hi, int bandCells, long[] counts) {
+        long range = (long) hi - lo + 1;
+        long width = (range + BUCKETS - 1) / BUCKETS;
+        int buckets = (int) ((range + width - 1) / width);
+        long[] histogram = new long[buckets];
+        long size = (long) rows * cols;
+        for (long i = 0; i < size; i++) {
+            int h = heights.getInt(i);
+            if (h >= lo && h <= hi) {
+                histogram[(int) ((h - (long) lo) / width)]++;
+            }
+        }
+        // 마지막 band 가 지금 이어 붙일 수 있는지
+        boolean open = false;
+        for (int k = buckets - 1; k >= 0; k--) {
+            long n = histogram[k];
+            int bucketLo = (int) (lo + k * width);
+            int bucketHi = (int) Math.min(hi, bucketLo + width - 1);
+            if (n > bandCells && bucketLo < bucketHi) {
+                counts = plan(bucketLo, bucketHi, bandCells, counts);
+                open = false;
+            } else if (open && counts[bands - 1] + n <= bandCells) {
+                bandLo[bands - 1] = bucketLo;
+                counts[bands - 1] += n;
+            } else {
+                if (bands == bandLo.length) {
+                    bandLo = Arrays.copyOf(bandLo, bands * 2);
+                    bandHi = Arrays.copyOf(bandHi, bands * 2);
+                }
+                if (bands == counts.length) {
+                    counts = Arrays.copyOf(counts, bands * 2);
+                }
+                bandLo[bands] = bucketLo;
+                bandHi[bands] = bucketHi;
+                counts[bands] = n;
+                bands++;
+                open = n <= bandCells;
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public void close() throws IOException {
+        heights.close();
+        order.close();
+        scratch.close();
+    }
+}
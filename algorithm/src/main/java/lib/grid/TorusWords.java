@@ -0,0 +1,251 @@
+package lib.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 위아래, 좌우가 이어진 격자에서 8 방향으로 한 칸씩 움직이며 (같은 칸을 다시 밟아도 된다) 단어를 만드는 경로 수.
+ * 물어본 단어들로만 트라이를 만들고, 트라이를 깊이 우선으로 내려가며 노드마다 "이 접두사를 만들고 각 칸에서 끝나는 경로 수" 층을 구한다.
+ * 자식 층은 자식 글자가 적힌 칸에서만 부모 층의 8 이웃을 더하면 되고, 합이 0 인 노드 아래는 보지 않는다.
+ * 그래서 경로를 하나씩 늘어놓지 않고, 단어 길이에도 제한이 없다. 첫 글자마다 ForkJoin 작업으로 나눠 돌고, 작업은 층 스택을 다 쓰면 돌려놓아
+ * 다음 작업이 다시 쓴다. 그래서 살아 있는 층은 (동시에 도는 작업 수) * (가장 긴 단어 길이) 개를 넘지 않는다.
+ * 칸 번호는 r * cols + c 이고, 경로 수가 long 을 넘으면 넘친 값 그대로 나온다.
+ */
+public final class TorusWords {
+    private static final int LETTERS = 256;
+    // 노드 수 * 칸 수가 이보다 작으면 현재 스레드에서 바로 센다.
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private final int size;
+    // 칸 u 의 8 이웃은 neighbors[u * 8 ~ u * 8 + 7]
+    private final int[] neighbors;
+    // 글자 l 이 적힌 칸은 cellsOf[start[l] ~ start[l + 1] - 1]
+    private final int[] start;
+    private final int[] cellsOf;
+
+    public TorusWords(byte[] cells, int rows, int cols) {
+        size = rows * cols;
+        neighbors = new int[size * 8];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int k = (r * cols + c) * 8;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if (dr != 0 || dc != 0) {
+                            neighbors[k++] = (r + dr + rows) % rows * cols + (c + dc + cols) % cols;
+                        }
+                    }
+                }
+            }
+        }
+        start = new int[LETTERS + 1];
+        for (int i = 0; i < size; i++) {
+            start[(cells[i] & 0xff) + 1]++;
+        }
+        for (int l = 0; l < LETTERS; l++) {
+            start[l + 1] += start[l];
+        }
+        cellsOf = new int[size];
+        int[] fill = Arrays.copyOf(start, LETTERS);
+        for (int i = 0; i < size; i++) {
+            cellsOf[fill[cells[i] & 0xff]++] = i;
+        }
+    }
+
+    public long[] count(byte[][] words) {
+        return count(words, ForkJoinPool.commonPool());
+    }
+
+    // words[i] 를 만드는 경로 수. 빈 단어는 0 이다.
+    public long[] count(byte[][] words, ForkJoinPool pool) {
+        // 판에 있는 글자만 0 ~ sigma-1 로 번호를 매긴다. 판에 없는 글자가 든 단어는 트라이에 넣지 않는다.
+        int[] code = new int[LETTERS];
+        int sigma = 0;
+        for (int l = 0; l < LETTERS; l++) {
+            code[l] = start[l + 1] > start[l] ? sigma++ : -1;
+        }
+        int[] letter = new int[sigma];
+        for (int l = 0; l < LETTERS; l++) {
+            if (code[l] >= 0) {
+                letter[code[l]] = l;
+            }
+        }
+
+        int[] next = new int[Math.max(sigma, 1) * 16];
+        int nodes = 1;
+        int maxLength = 0;
+        int[] wordNode = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            int node = 0;
+            for (byte b : words[i]) {
+                int k = code[b & 0xff];
+                if (k < 0) {
+                    node = -1;
+                    break;
+                }
+                int slot = node * sigma + k;
+                if (next[slot] == 0) {
+                    if ((nodes + 1) * sigma > next.length) {
+                        next = Arrays.copyOf(next, next.length * 2);
+                    }
+                    next[slot] = nodes++;
+                }
+                node = next[slot];
+            }
+            wordNode[i] = node;
+            maxLength = Math.max(maxLength, words[i].length);
+        }
+
+        long[] total = new long[nodes];
+        Walk walk = new Walk(next, sigma, letter, maxLength, total);
+        if ((long) nodes * size >= SEQUENTIAL_THRESHOLD) {
+            List<SubtreeTask> tasks = new ArrayList<>();
+            for (int k = 0; k < sigma; k++) {
+                if (next[k] != 0) {
+                    tasks.add(new SubtreeTask(walk, k));
+                }
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        } else {
+            Stack stack = new Stack(maxLength);
+            stack.node[0] = 0;
+            stack.child[0] = 0;
+            descend(walk, stack, 0);
+        }
+
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            result[i] = wordNode[i] > 0 ? total[wordNode[i]] : 0;
+        }
+        return result;
+    }
+
+    // 글자 l 칸마다 from 층의 8 이웃 합을 to 에 쓰고 그 합을 돌려준다. from 이 null 이면 루트라서 모든 칸이 1 이다.
+    private long fill(long[] from, long[] to, int l) {
+        long sum = 0;
+        for (int p = start[l]; p < start[l + 1]; p++) {
+            int u = cellsOf[p];
+            long s = 1;
+            if (from != null) {
+                int q = u * 8;
+                s = from[neighbors[q]] + from[neighbors[q + 1]] + from[neighbors[q + 2]] + from[neighbors[q + 3]]
+                        + from[neighbors[q + 4]] + from[neighbors[q + 5]] + from[neighbors[q + 6]] + from[neighbors[q + 7]];
+            }
+            to[u] = s;
+            sum += s;
+        }
+        return sum;
+    }
+
+    // 스택의 bottom 층 아래를 깊이 우선으로 센다. bottom 보다 얕은 곳으로는 올라가지 않는다.
+    private void descend(Walk walk, Stack stack, int bottom) {
+        int[] next = walk.next;
+        int sigma = walk.sigma;
+        int top = bottom;
+        while (top >= bottom) {
+            int k = stack.child[top]++;
+            if (k == sigma) {
+                top--;
+                continue;
+            }
+            int child = next[stack.node[top] * sigma + k];
+            if (child == 0) {
+                continue;
+            }
+            int d = top + 1;
+            int l = walk.letter[k];
+            long sum = fill(stack.layers[top], stack.clean(d, l), l);
+            walk.total[child] = sum;
+            if (sum != 0) {
+                stack.node[d] = child;
+                stack.child[d] = 0;
+                top = d;
+            }
+        }
+    }
+
+    // 트라이 정보. total[node] 에 그 접두사를 만드는 경로 수를 채운다 (작업마다 겹치지 않는 노드에 쓴다).
+    // 다 쓴 층 스택은 stacks 에 돌려놓는다.
+    private static final class Walk {
+        final int[] next;
+        final int sigma;
+        final int[] letter;
+        final int maxLength;
+        final long[] total;
+        final ConcurrentLinkedQueue<Stack> stacks = new ConcurrentLinkedQueue<>();
+
+        Walk(int[] next, int sigma, int[] letter, int maxLength, long[] total) {
+            this.next = next;
+            this.sigma = sigma;
+            this.letter = letter;
+            this.maxLength = maxLength;
+            this.total = total;
+        }
+    }
+
+    // 깊이 우선 탐색 스택. 깊이 d 의 층은 layers[d] 이고 값이 남아 있는 칸의 글자는 letters[d] 다 (없으면 -1).
+    // 깊이 0 은 루트라서 층이 null 이다.
+    private final class Stack {
+        final long[][] layers;
+        final int[] letters;
+        final int[] node;
+        final int[] child;
+
+        Stack(int maxLength) {
+            layers = new long[maxLength + 1][];
+            letters = new int[maxLength + 1];
+            Arrays.fill(letters, -1);
+            node = new int[maxLength + 1];
+            child = new int[maxLength + 1];
+        }
+
+        // 깊이 d 층을 비워서 글자 l 용으로 돌려준다. 지난번에 쓴 글자의 칸만 지운다.
+        long[] clean(int d, int l) {
+            long[] layer = layers[d];
+            if (layer == null) {
+                layer = layers[d] = new long[size];
+            } else if (letters[d] >= 0) {
+                for (int p = start[letters[d]]; p < start[letters[d] + 1]; p++) {
+                    layer[cellsOf[p]] = 0;
+                }
+            }
+            letters[d] = l;
+            return layer;
+        }
+    }
+
+    // 첫 글자가 k 번째 글자인 단어들을 센다. 층 스택은 먼저 돌려놓은 것이 있으면 그것을 쓴다.
+    @SuppressWarnings("serial")
+    private final class SubtreeTask extends RecursiveAction {
+        private final Walk walk;
+        private final int k;
+
+        SubtreeTask(Walk walk, int k) {
+            this.walk = walk;
+            this.k = k;
+        }
+
+        @Override
+        protected void compute() {
+            Stack stack = walk.stacks.poll();
+            if (stack == null) {
+                stack = new Stack(walk.maxLength);
+            }
+            int child = walk.next[k];
+            int l = walk.letter[k];
+            long sum = fill(null, stack.clean(1, l), l);
+            walk.total[child] = sum;
+            if (sum != 0) {
+                stack.node[1] = child;
+                stack.child[1] = 0;
+                descend(walk, stack, 1);
+            }
+            walk.stacks.offer(stack);
+        }
+    }
+}
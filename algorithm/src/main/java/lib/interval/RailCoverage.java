@@ -0,0 +1,107 @@
+package lib.interval;
+
+import java.util.Arrays;
+
+/**
+ * 사람이 들어오고 나가는 동안 BOJ_13334 의 답 (길이 d 인 철로에 들어가는 사람 수의 최댓값) 을 유지하는 구조.
+ * 철로 끝은 누군가의 끝점에 두면 충분하므로, 나올 수 있는 좌표를 미리 받아 압축하고 그 위에 d 마다 세그먼트 트리를 하나씩 둔다.
+ * 길이가 d 이하인 (시작, 끝) 은 철로 끝 e 가 [끝, 시작 + d] 일 때 들어가므로 그 구간에 +1 을 더한다.
+ * 구간 더하기는 자식으로 내려보내지 않고 노드에 쌓아 두는 (max[v] = add[v] + 자식 최댓값) 방식이라 전체 최댓값은 루트에 있다.
+ * 사람 하나를 넣거나 빼는 데 d 하나당 O(log n), 답은 O(log q) 다 (q 는 d 의 개수).
+ */
+public final class RailCoverage {
+    private final int[] coords;
+    private final long[] ds;
+    private final int size;
+    // d 마다 한 트리. 노드 v 의 자식은 2v, 2v + 1 이다.
+    private final int[][] max;
+    private final int[][] add;
+
+    // coords 는 집과 사무실로 나올 수 있는 좌표 전부 (중복, 순서 상관없음), ds 는 물어볼 철로 길이들이다.
+    public RailCoverage(int[] coords, long[] ds) {
+        int[] sorted = coords.clone();
+        Arrays.sort(sorted);
+        int m = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[m++] = sorted[i];
+            }
+        }
+        this.coords = Arrays.copyOf(sorted, m);
+        this.ds = ds.clone();
+        Arrays.sort(this.ds);
+        int s = 1;
+        while (s < Math.max(m, 1)) {
+            s <<= 1;
+        }
+        size = s;
+        max = new int[this.ds.length][2 * s];
+        add = new int[this.ds.length][2 * s];
+    }
+
+    public void addCommuter(int h, int o) {
+        update(h, o, 1);
+    }
+
+    // 넣은 적 있는 (h, o) 만 뺄 수 있다.
+    public void removeCommuter(int h, int o) {
+        update(h, o, -1);
+    }
+
+    // 지금 사람들 중 길이 d 인 철로에 들어가는 사람 수의 최댓값. d 는 만들 때 준 길이 중 하나여야 한다.
+    public int bestCoverage(long d) {
+        int k = Arrays.binarySearch(ds, d);
+        if (k < 0) {
+            throw new IllegalArgumentException("unregistered length: " + d);
+        }
+        return max[k][1];
+    }
+
+    private void update(int h, int o, int delta) {
+        int start = Math.min(h, o);
+        int end = Math.max(h, o);
+        int lo = Arrays.binarySearch(coords, end);
+        if (lo < 0) {
+            throw new IllegalArgumentException("coordinate not registered: " + end);
+        }
+        for (int k = 0; k < ds.length; k++) {
+            long d = ds[k];
+            if ((long) end - start > d) {
+                continue;
+            }
+            int hi = upperBound((long) start + d) - 1;
+            update(max[k], add[k], 1, 0, size - 1, lo, hi, delta);
+        }
+    }
+
+    private static void update(int[] max, int[] add, int v, int l, int r, int lo, int hi, int delta) {
+        if (lo <= l && r <= hi) {
+            max[v] += delta;
+            add[v] += delta;
+            return;
+        }
+        int mid = (l + r) >>> 1;
+        if (lo <= mid) {
+            update(max, add, 2 * v, l, mid, lo, hi, delta);
+        }
+        if (hi > mid) {
+            update(max, add, 2 * v + 1, mid + 1, r, lo, hi, delta);
+        }
+        max[v] = add[v] + Math.max(max[2 * v], max[2 * v + 1]);
+    }
+
+    // x 보다 큰 첫 좌표의 위치
+    private int upperBound(long x) {
+        int lo = 0;
+        int hi = coords.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (coords[mid] <= x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,70 @@
+package lib.interval;
+
+import lib.sort.RadixSort;
+
+/**
+ * 길이 d 인 철로 하나에 집과 사무실이 모두 들어가는 사람 수의 최댓값 (BOJ_13334) 을 여러 d 에 대해 답하는 색인.
+ * 사람마다 (시작, 끝) 을 정해 두고 끝 기준 / 시작 기준으로 (좌표 << 32 | 길이) 를 long 하나에 담아 각각 한 번만 기수 정렬한다.
+ * 길이가 d 이하인 사람만 보면 시작이 e - d 보다 작은 사람은 끝도 e 보다 작으므로,
+ * 철로 끝을 e 로 둘 때의 답은 (끝이 e 이하인 사람 수) - (시작이 e - d 보다 작은 사람 수) 다.
+ * 그래서 질의 하나는 두 정렬 배열을 길이 d 초과인 사람을 건너뛰며 맞대어 훑는 O(n) 이고, 다시 정렬하지 않는다.
+ */
+public final class RailSweep {
+    private static final long LENGTH_MASK = 0xFFFFFFFFL;
+
+    // 끝 기준, 시작 기준으로 정렬한 (좌표 << 32 | 길이)
+    private final long[] byEnd;
+    private final long[] byStart;
+
+    // 사람 i 는 h[i], o[i] 사이를 오간다. 순서는 상관없다.
+    public RailSweep(int[] h, int[] o, int n) {
+        byEnd = new long[n];
+        byStart = new long[n];
+        for (int i = 0; i < n; i++) {
+            int start = Math.min(h[i], o[i]);
+            int end = Math.max(h[i], o[i]);
+            long length = (long) end - start;
+            byEnd[i] = (long) end << 32 | length;
+            byStart[i] = (long) start << 32 | length;
+        }
+        RadixSort.parallelSort(byEnd);
+        RadixSort.parallelSort(byStart);
+    }
+
+    public int size() {
+        return byEnd.length;
+    }
+
+    // 길이 d 인 철로에 들어가는 사람 수의 최댓값
+    public int best(long d) {
+        int n = byEnd.length;
+        int count = 0;
+        int best = 0;
+        int j = 0;
+        for (int i = 0; i < n; i++) {
+            long e = byEnd[i];
+            if ((e & LENGTH_MASK) > d) {
+                continue;
+            }
+            count++;
+            long from = (e >> 32) - d;
+            while (j < n && byStart[j] >> 32 < from) {
+                if ((byStart[j] & LENGTH_MASK) <= d) {
+                    count--;
+                }
+                j++;
+            }
+            best = Math.max(best, count);
+        }
+        return best;
+    }
+
+    // ds[k] 마다의 답. 정렬은 만들 때 한 번뿐이다.
+    public int[] best(long[] ds) {
+        int[] result = new int[ds.length];
+        for (int k = 0; k < ds.length; k++) {
+            result[k] = best(ds[k]);
+        }
+        return result;
+    }
+}
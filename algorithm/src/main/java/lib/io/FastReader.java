@@ -0,0 +1,261 @@
+package lib.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 바이트 단위로 직접 파싱하는 입력 리더.
+ * 표준 입력, 메모리에 올라온 byte[] / ByteBuffer, 메모리 매핑된 파일을 모두 지원하고
+ * 토큰마다 String 을 만들지 않는다. 복사 없이 읽는 것은 byte[] 와 배열이 있는 ByteBuffer 뿐이고,
+ * 표준 입력, 직접 ByteBuffer, 매핑된 파일은 64KB 씩 내부 버퍼에 옮겨 담아 읽는다.
+ */
+public final class FastReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    // 2GB 를 넘는 파일은 이 크기 단위로 나눠서 매핑한다.
+    private static final long MAP_WINDOW = 1L << 30;
+    private static final double[] POW10 = new double[23];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final InputStream in;
+    private ByteBuffer source;
+    private final FileChannel channel;
+    private long mapped;
+    private final byte[] buf;
+    private int ptr;
+    private int len;
+
+    public FastReader() {
+        this(System.in);
+    }
+
+    public FastReader(InputStream in) {
+        this.in = in;
+        this.source = null;
+        this.channel = null;
+        this.buf = new byte[BUFFER_SIZE];
+    }
+
+    // 이미 메모리에 있는 입력은 복사 없이 그대로 읽는다.
+    public FastReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    public FastReader(byte[] data, int offset, int length) {
+        this.in = null;
+        this.source = null;
+        this.channel = null;
+        this.buf = data;
+        this.ptr = offset;
+        this.len = offset + length;
+    }
+
+    public FastReader(ByteBuffer data) {
+        this.in = null;
+        this.channel = null;
+        if (data.hasArray()) {
+            this.source = null;
+            this.buf = data.array();
+            this.ptr = data.arrayOffset() + data.position();
+            this.len = data.arrayOffset() + data.limit();
+        } else {
+            this.source = data.slice();
+            this.buf = new byte[BUFFER_SIZE];
+        }
+    }
+
+    // 매핑한 영역도 fill 에서 내부 버퍼로 한 조각씩 복사한다.
+    private FastReader(FileChannel channel) throws IOException {
+        this.in = null;
+        this.channel = channel;
+        this.source = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), MAP_WINDOW));
+        this.mapped = source.limit();
+        this.buf = new byte[BUFFER_SIZE];
+    }
+
+    public static FastReader map(Path path) throws IOException {
+        return new FastReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    // 파일 경로가 주어지면 매핑하고, 없으면 표준 입력으로 돌아간다.
+    public static FastReader open(String[] args) throws IOException {
+        if (args != null && args.length > 0) {
+            return map(Path.of(args[0]));
+        }
+        return new FastReader();
+    }
+
+    private void fill() throws IOException {
+        ptr = 0;
+        len = 0;
+        if (in != null) {
+            // EOF 면 read 가 -1 을 돌려주는데, 그대로 두면 ptr == len 이 다시 맞지 않아 지난 바이트를 읽게 된다.
+            len = Math.max(0, in.read(buf, 0, buf.length));
+            return;
+        }
+        if (source == null) {
+            return;
+        }
+        if (!source.hasRemaining() && channel != null && mapped < channel.size()) {
+            MappedByteBuffer next = channel.map(FileChannel.MapMode.READ_ONLY, mapped, Math.min(channel.size() - mapped, MAP_WINDOW));
+            mapped += next.limit();
+            source = next;
+        }
+        len = Math.min(buf.length, source.remaining());
+        source.get(buf, 0, len);
+    }
+
+    private int read() throws IOException {
+        if (ptr == len) {
+            fill();
+            if (len <= 0) {
+                return -1;
+            }
+        }
+        return buf[ptr++] & 0xff;
+    }
+
+    private int skip() throws IOException {
+        int c;
+        while ((c = read()) != -1 && c <= ' ') {
+        }
+        return c;
+    }
+
+    public boolean hasNext() throws IOException {
+        int c = skip();
+        if (c == -1) {
+            return false;
+        }
+        ptr--;
+        return true;
+    }
+
+    public int nextInt() throws IOException {
+        int c = skip();
+        boolean neg = c == '-';
+        if (neg) {
+            c = read();
+        }
+        int ret = 0;
+        while (c >= '0' && c <= '9') {
+            ret = ret * 10 + (c - '0');
+            c = read();
+        }
+        return neg ? -ret : ret;
+    }
+
+    public long nextLong() throws IOException {
+        int c = skip();
+        boolean neg = c == '-';
+        if (neg) {
+            c = read();
+        }
+        long ret = 0;
+        while (c >= '0' && c <= '9') {
+            ret = ret * 10 + (c - '0');
+            c = read();
+        }
+        return neg ? -ret : ret;
+    }
+
+    // 유효 숫자를 18자리까지 모은다. 모은 정수가 2^53 미만이고 10 의 지수가 22 이하일 때만 정확하게 반올림되고,
+    // 그보다 길면 마지막 자리에서 틀릴 수 있다.
+    public double nextDouble() throws IOException {
+        int c = skip();
+        boolean neg = c == '-';
+        if (neg) {
+            c = read();
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        while (c >= '0' && c <= '9') {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            } else {
+                scale--;
+            }
+            c = read();
+        }
+        if (c == '.') {
+            c = read();
+            while (c >= '0' && c <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    scale++;
+                }
+                c = read();
+            }
+        }
+        double ret;
+        if (scale <= 0) {
+            ret = mantissa * pow10(-scale);
+        } else {
+            ret = mantissa / pow10(scale);
+        }
+        return neg ? -ret : ret;
+    }
+
+    private static double pow10(int e) {
+        return e < POW10.length ? POW10[e] : Math.pow(10, e);
+    }
+
+    // 공백이 아닌 다음 한 글자
+    public char nextChar() throws IOException {
+        return (char) skip();
+    }
+
+    // 다음 단어를 dst 에 채우고 길이를 돌려준다. dst 보다 긴 부분은 버린다.
+    public int nextWord(byte[] dst) throws IOException {
+        int c = skip();
+        int n = 0;
+        while (c > ' ') {
+            if (n < dst.length) {
+                dst[n] = (byte) c;
+            }
+            n++;
+            c = read();
+        }
+        return Math.min(n, dst.length);
+    }
+
+    public int nextWord(char[] dst) throws IOException {
+        int c = skip();
+        int n = 0;
+        while (c > ' ') {
+            if (n < dst.length) {
+                dst[n] = (char) c;
+            }
+            n++;
+            c = read();
+        }
+        return Math.min(n, dst.length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
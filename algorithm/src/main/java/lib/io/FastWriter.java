@@ -0,0 +1,151 @@
+package lib.io;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 바이트 버퍼에 바로 써서 채널로 내보내는 출력기.
+ * 버퍼가 차면 그때그때 내보내므로 출력이 수백만 줄이어도 메모리는 버퍼 크기만큼만 쓴다.
+ * 끝나면 반드시 flush() 나 close() 를 불러야 한다.
+ */
+public final class FastWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] MIN_LONG = "-9223372036854775808".getBytes();
+
+    private final WritableByteChannel out;
+    private final byte[] buf;
+    private final ByteBuffer view;
+    private final byte[] digits = new byte[20];
+    private int pos;
+
+    public FastWriter() {
+        this(new FileOutputStream(FileDescriptor.out).getChannel());
+    }
+
+    public FastWriter(OutputStream out) {
+        this(Channels.newChannel(out));
+    }
+
+    public FastWriter(WritableByteChannel out) {
+        this(out, BUFFER_SIZE);
+    }
+
+    public FastWriter(WritableByteChannel out, int bufferSize) {
+        this.out = out;
+        this.buf = new byte[Math.max(bufferSize, 64)];
+        this.view = ByteBuffer.wrap(buf);
+    }
+
+    private void ensure(int n) throws IOException {
+        if (pos + n > buf.length) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        view.clear().limit(pos);
+        while (view.hasRemaining()) {
+            out.write(view);
+        }
+        pos = 0;
+    }
+
+    public FastWriter print(char c) throws IOException {
+        ensure(1);
+        buf[pos++] = (byte) c;
+        return this;
+    }
+
+    public FastWriter print(int x) throws IOException {
+        return print((long) x);
+    }
+
+    public FastWriter print(long x) throws IOException {
+        if (x == Long.MIN_VALUE) {
+            return print(MIN_LONG, 0, MIN_LONG.length);
+        }
+        ensure(20);
+        if (x < 0) {
+            buf[pos++] = '-';
+            x = -x;
+        }
+        int n = 0;
+        do {
+            digits[n++] = (byte) ('0' + x % 10);
+            x /= 10;
+        } while (x != 0);
+        while (n > 0) {
+            buf[pos++] = digits[--n];
+        }
+        return this;
+    }
+
+    public FastWriter print(byte[] s, int from, int to) throws IOException {
+        while (from < to) {
+            if (pos == buf.length) {
+                drain();
+            }
+            int n = Math.min(to - from, buf.length - pos);
+            System.arraycopy(s, from, buf, pos, n);
+            pos += n;
+            from += n;
+        }
+        return this;
+    }
+
+    public FastWriter print(char[] s, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            if (pos == buf.length) {
+                drain();
+            }
+            buf[pos++] = (byte) s[i];
+        }
+        return this;
+    }
+
+    // ASCII 문자열만 넣는다.
+    public FastWriter print(CharSequence s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            if (pos == buf.length) {
+                drain();
+            }
+            buf[pos++] = (byte) s.charAt(i);
+        }
+        return this;
+    }
+
+    public FastWriter println() throws IOException {
+        return print('\n');
+    }
+
+    public FastWriter println(int x) throws IOException {
+        return print(x).print('\n');
+    }
+
+    public FastWriter println(long x) throws IOException {
+        return print(x).print('\n');
+    }
+
+    public FastWriter println(char c) throws IOException {
+        return print(c).print('\n');
+    }
+
+    public FastWriter println(CharSequence s) throws IOException {
+        return print(s).print('\n');
+    }
+
+    public void flush() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        drain();
+        out.close();
+    }
+}
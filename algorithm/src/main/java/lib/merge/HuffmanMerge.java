@@ -0,0 +1,68 @@
+package lib.merge;
+
+import lib.sort.RadixSort;
+
+import java.util.Arrays;
+
+/**
+ * 파일 크기들을 두 개씩 합쳐 하나로 만드는 최소 비용 (BOJ_13975, 허프만 병합).
+ * 처음 크기들을 LSD 기수 정렬한 뒤 두 큐로 합친다. 합친 결과는 만들어지는 순서대로 커지므로 두 번째 배열 끝에 붙이기만 해도 정렬되어 있고,
+ * 매번 두 배열의 맨 앞 중 작은 것 두 개를 꺼내면 된다. 그래서 정렬 뒤에는 O(k) 다.
+ * 테스트 케이스마다 clear 하고 다시 쓰는 작업 공간이라, 가장 큰 케이스만큼 자란 뒤로는 할당하지 않는다.
+ */
+public final class HuffmanMerge {
+    private long[] sizes;
+    // 기수 정렬 버퍼이자 합친 결과를 쌓는 두 번째 큐
+    private long[] merged;
+    private final int[] count = new int[RadixSort.RADIX];
+    private int k;
+
+    public HuffmanMerge(int capacity) {
+        sizes = new long[Math.max(capacity, 1)];
+        merged = new long[sizes.length];
+    }
+
+    public void clear() {
+        k = 0;
+    }
+
+    // 크기는 0 이상이다.
+    public void add(long size) {
+        if (k == sizes.length) {
+            sizes = Arrays.copyOf(sizes, k * 2);
+            merged = new long[k * 2];
+        }
+        sizes[k++] = size;
+    }
+
+    public int size() {
+        return k;
+    }
+
+    // 지금까지 넣은 파일을 모두 합치는 최소 비용. 파일이 하나 이하면 0 이다.
+    public long cost() {
+        sort();
+        long[] a = sizes;
+        long[] b = merged;
+        int ha = 0;
+        int hb = 0;
+        int tb = 0;
+        long result = 0;
+        for (int step = 1; step < k; step++) {
+            long x = ha < k && (hb == tb || a[ha] <= b[hb]) ? a[ha++] : b[hb++];
+            long y = ha < k && (hb == tb || a[ha] <= b[hb]) ? a[ha++] : b[hb++];
+            result += x + y;
+            b[tb++] = x + y;
+        }
+        return result;
+    }
+
+    // sizes[0, k) 를 merged 를 버퍼로 써서 정렬한다. 결과가 버퍼 쪽에 남으면 두 배열을 바꾼다.
+    private void sort() {
+        long[] sorted = RadixSort.sort(sizes, k, merged, count);
+        if (sorted != sizes) {
+            merged = sizes;
+            sizes = sorted;
+        }
+    }
+}
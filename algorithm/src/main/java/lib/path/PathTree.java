@@ -0,0 +1,246 @@
+package lib.path;
+
+import lib.io.FastWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 경로를 구분자 단위로 쪼개 넣는 디렉토리 트리.
+ * 디렉토리 이름은 한 번만 바이트 저장소에 넣고(intern) 번호로만 다루며,
+ * 노드는 (부모, 이름 번호) -> 자식 해시와 첫 자식 / 다음 형제 int 배열로 관리한다.
+ * 출력할 때 노드마다 자식을 딱 한 번 이름순으로 정렬하고, 재귀 대신 명시적인 스택으로 돈다.
+ */
+public final class PathTree {
+    private static final int ROOT = 0;
+
+    private final byte separator;
+
+    // 이름 저장소
+    private byte[] bytes = new byte[1 << 12];
+    private int bytesLen;
+    private int[] nameStart = new int[256];
+    private int[] nameLen = new int[256];
+    private int names;
+    // 이름 해시 (빈 칸은 -1)
+    private int[] nameTable = newTable(512);
+
+    // 노드
+    private int[] parent = new int[256];
+    private int[] name = new int[256];
+    private int[] firstChild = new int[256];
+    private int[] nextSibling = new int[256];
+    private int nodes = 1;
+    // (부모, 이름) 해시 (빈 칸은 -1)
+    private int[] childTable = newTable(512);
+
+    public PathTree(char separator) {
+        this.separator = (byte) separator;
+        parent[ROOT] = -1;
+        firstChild[ROOT] = -1;
+        nextSibling[ROOT] = -1;
+    }
+
+    private static int[] newTable(int size) {
+        int[] table = new int[size];
+        Arrays.fill(table, -1);
+        return table;
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B1;
+        return h ^ (h >>> 15);
+    }
+
+    public int nodes() {
+        return nodes - 1;
+    }
+
+    public int names() {
+        return names;
+    }
+
+    public void insert(byte[] path, int from, int to) {
+        int node = ROOT;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || path[i] == separator) {
+                if (i > start) {
+                    node = child(node, intern(path, start, i));
+                }
+                start = i + 1;
+            }
+        }
+    }
+
+    private int intern(byte[] s, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = h * 31 + s[i];
+        }
+        int mask = nameTable.length - 1;
+        int slot = mix(h) & mask;
+        while (nameTable[slot] >= 0) {
+            int id = nameTable[slot];
+            if (Arrays.equals(bytes, nameStart[id], nameStart[id] + nameLen[id], s, from, to)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int len = to - from;
+        if (bytesLen + len > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, bytesLen + len));
+        }
+        System.arraycopy(s, from, bytes, bytesLen, len);
+        if (names == nameStart.length) {
+            nameStart = Arrays.copyOf(nameStart, names * 2);
+            nameLen = Arrays.copyOf(nameLen, names * 2);
+        }
+        nameStart[names] = bytesLen;
+        nameLen[names] = len;
+        bytesLen += len;
+        nameTable[slot] = names;
+        if (++names * 2 > nameTable.length) {
+            nameTable = rehash(nameTable, true);
+        }
+        return names - 1;
+    }
+
+    private int child(int node, int id) {
+        int mask = childTable.length - 1;
+        int slot = mix(node * 31 + id) & mask;
+        while (childTable[slot] >= 0) {
+            int c = childTable[slot];
+            if (parent[c] == node && name[c] == id) {
+                return c;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (nodes == parent.length) {
+            int capacity = nodes * 2;
+            parent = Arrays.copyOf(parent, capacity);
+            name = Arrays.copyOf(name, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+        }
+        int c = nodes++;
+        parent[c] = node;
+        name[c] = id;
+        firstChild[c] = -1;
+        nextSibling[c] = firstChild[node];
+        firstChild[node] = c;
+        childTable[slot] = c;
+        if (nodes * 2 > childTable.length) {
+            childTable = rehash(childTable, false);
+        }
+        return c;
+    }
+
+    private int[] rehash(int[] table, boolean nameKeys) {
+        int[] next = newTable(table.length * 2);
+        int mask = next.length - 1;
+        for (int id : table) {
+            if (id < 0) {
+                continue;
+            }
+            int h;
+            if (nameKeys) {
+                h = 0;
+                for (int i = nameStart[id], end = i + nameLen[id]; i < end; i++) {
+                    h = h * 31 + bytes[i];
+                }
+            } else {
+                h = parent[id] * 31 + name[id];
+            }
+            int slot = mix(h) & mask;
+            while (next[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            next[slot] = id;
+        }
+        return next;
+    }
+
+    private int compareNames(int a, int b) {
+        return Arrays.compareUnsigned(bytes, nameStart[a], nameStart[a] + nameLen[a],
+                bytes, nameStart[b], nameStart[b] + nameLen[b]);
+    }
+
+    // 자식 목록을 이름순으로 다시 잇는다. buf, tmp 는 자식 수 이상의 크기여야 한다.
+    private void sortChildren(int node, int[] buf, int[] tmp) {
+        int n = 0;
+        for (int c = firstChild[node]; c >= 0; c = nextSibling[c]) {
+            buf[n++] = c;
+        }
+        if (n < 2) {
+            return;
+        }
+        // 아래에서 위로 올라가는 병합 정렬
+        int[] src = buf;
+        int[] dst = tmp;
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += width * 2) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + width * 2, n);
+                int i = lo;
+                int j = mid;
+                for (int k = lo; k < hi; k++) {
+                    if (i < mid && (j >= hi || compareNames(name[src[i]], name[src[j]]) <= 0)) {
+                        dst[k] = src[i++];
+                    } else {
+                        dst[k] = src[j++];
+                    }
+                }
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        firstChild[node] = src[0];
+        for (int k = 0; k + 1 < n; k++) {
+            nextSibling[src[k]] = src[k + 1];
+        }
+        nextSibling[src[n - 1]] = -1;
+    }
+
+    // 한 줄에 디렉토리 하나씩, 깊이만큼 공백을 넣어 이름순으로 쓴다.
+    public void write(FastWriter out) throws IOException {
+        int[] stack = new int[nodes];
+        int[] depth = new int[nodes];
+        int[] buf = new int[nodes];
+        int[] tmp = new int[nodes];
+        int top = 0;
+
+        sortChildren(ROOT, buf, tmp);
+        for (int c = firstChild[ROOT]; c >= 0; c = nextSibling[c]) {
+            top++;
+        }
+        // 스택 위쪽이 먼저 나오도록 뒤에서부터 채운다.
+        int k = top;
+        for (int c = firstChild[ROOT]; c >= 0; c = nextSibling[c]) {
+            stack[--k] = c;
+        }
+
+        while (top > 0) {
+            int node = stack[--top];
+            int d = depth[node];
+            for (int i = 0; i < d; i++) {
+                out.print(' ');
+            }
+            int id = name[node];
+            out.print(bytes, nameStart[id], nameStart[id] + nameLen[id]).println();
+
+            sortChildren(node, buf, tmp);
+            int count = 0;
+            for (int c = firstChild[node]; c >= 0; c = nextSibling[c]) {
+                count++;
+                depth[c] = d + 1;
+            }
+            k = top + count;
+            for (int c = firstChild[node]; c >= 0; c = nextSibling[c]) {
+                stack[--k] = c;
+            }
+            top += count;
+        }
+    }
+}
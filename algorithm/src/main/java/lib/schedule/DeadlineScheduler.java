@@ -0,0 +1,65 @@
+package lib.schedule;
+
+import lib.sort.RadixSort;
+
+import java.util.Arrays;
+
+/**
+ * 단위 시간 작업을 마감 안에 하나씩 골라 보상 합을 최대로 만드는 스케줄러 (BOJ_1781).
+ * 작업은 (보상 << 32 | 마감) long 하나로 쌓아 두고 한 번 기수 정렬한 뒤, 보상이 큰 것부터 마감 이하의 가장 늦은 빈 칸에 넣는다.
+ * 빈 칸은 "t 이하의 가장 늦은 빈 칸" 을 가리키는 서로소 집합으로 찾는다. 칸 t 를 쓰면 t 를 t - 1 쪽에 붙이고, 0 은 빈 칸이 없다는 뜻이다.
+ * 작업이 n 개면 n 보다 늦은 칸은 쓸 일이 없어서 마감을 n 으로 자른다. 그래서 메모리는 long 2n 개와 int n + 1 개다.
+ */
+public final class DeadlineScheduler {
+    private final long[] jobs;
+    private int size;
+
+    public DeadlineScheduler(int capacity) {
+        jobs = new long[capacity];
+    }
+
+    // 마감이 1 보다 작은 작업은 어차피 할 수 없어서 버린다. 보상은 0 이상이다.
+    public void add(int deadline, int reward) {
+        if (deadline < 1) {
+            return;
+        }
+        jobs[size++] = (long) reward << 32 | deadline;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 고른 작업들의 보상 합. 작업을 정렬하므로 한 번만 부른다.
+    public long maxReward() {
+        int n = size;
+        long[] keys = jobs;
+        if (n < jobs.length) {
+            keys = Arrays.copyOf(jobs, n);
+        }
+        RadixSort.parallelSort(keys);
+        int[] free = new int[n + 1];
+        for (int t = 0; t <= n; t++) {
+            free[t] = t;
+        }
+        long result = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            int deadline = (int) Math.min(n, keys[i] & 0xFFFFFFFFL);
+            int t = find(free, deadline);
+            if (t > 0) {
+                free[t] = t - 1;
+                result += keys[i] >>> 32;
+            }
+        }
+        return result;
+    }
+
+    // 경로 절반 압축
+    private static int find(int[] free, int t) {
+        while (free[t] != t) {
+            free[t] = free[free[t]];
+            t = free[t];
+        }
+        return t;
+    }
+}
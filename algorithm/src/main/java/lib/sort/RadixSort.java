@@ -0,0 +1,195 @@
+package lib.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * long 키를 정렬하는 LSD 기수 정렬. sort 는 부호 없는 순서로 키마다 int 값 하나를 같이 옮기고,
+ * parallelSort 는 키만 부호 있는 순서로 정렬하며 배열을 조각으로 나눠 ForkJoin 으로 센 뒤 흩뿌린다.
+ * 11 비트씩 6 번 돌고, 모든 키의 자릿값이 같은 단계는 건너뛴다. 같은 키끼리는 원래 순서가 유지된다.
+ */
+public final class RadixSort {
+    private static final int BITS = 11;
+    // 버퍼를 받는 sort 에 넘길 count 배열의 크기
+    public static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+    // 조각 하나가 이보다 작아지도록 나누지는 않는다.
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private RadixSort() {
+    }
+
+    // double 을 부호 없는 long 으로 바꾼다. 키의 순서가 값의 순서와 같다 (-0.0 은 0.0 으로 본다).
+    public static long key(double v) {
+        long bits = Double.doubleToLongBits(v + 0.0);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    public static void sort(long[] keys, int[] values, int from, int to) {
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        sort(keys, values, from, to, new long[n], new int[n], new int[RADIX]);
+    }
+
+    // 버퍼를 받아서 할당 없이 정렬한다. keyBuffer, valueBuffer 는 to - from 칸, count 는 RADIX 칸 이상이다.
+    public static void sort(long[] keys, int[] values, int from, int to, long[] keyBuffer, int[] valueBuffer, int[] count) {
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        if (passes(keys, values, from, n, keyBuffer, valueBuffer, count)) {
+            System.arraycopy(keyBuffer, 0, keys, from, n);
+            System.arraycopy(valueBuffer, 0, values, from, n);
+        }
+    }
+
+    // keys[0, n) 만 buffer 와 번갈아 쓰며 정렬하고, 정렬된 결과가 든 배열 (keys 또는 buffer) 을 돌려준다.
+    public static long[] sort(long[] keys, int n, long[] buffer, int[] count) {
+        if (n < 2) {
+            return keys;
+        }
+        return passes(keys, null, 0, n, buffer, null, count) ? buffer : keys;
+    }
+
+    // keys[from, from + n) 과 buffer[0, n) 을 번갈아 쓰며 한 자리씩 흩뿌린다. values 가 null 이면 키만 옮긴다.
+    // 결과가 buffer 쪽에 남으면 true
+    private static boolean passes(long[] keys, int[] values, int from, int n, long[] keyBuffer, int[] valueBuffer, int[] count) {
+        long[] srcKeys = keys;
+        int[] srcValues = values;
+        int srcFrom = from;
+        long[] dstKeys = keyBuffer;
+        int[] dstValues = valueBuffer;
+        int dstFrom = 0;
+        boolean swapped = false;
+
+        for (int shift = 0; shift < Long.SIZE; shift += BITS) {
+            Arrays.fill(count, 0, RADIX, 0);
+            for (int i = srcFrom, end = srcFrom + n; i < end; i++) {
+                count[(int) (srcKeys[i] >>> shift) & MASK]++;
+            }
+            if (count[(int) (srcKeys[srcFrom] >>> shift) & MASK] == n) {
+                continue;
+            }
+            int sum = dstFrom;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = srcFrom, end = srcFrom + n; i < end; i++) {
+                int pos = count[(int) (srcKeys[i] >>> shift) & MASK]++;
+                dstKeys[pos] = srcKeys[i];
+                if (srcValues != null) {
+                    dstValues[pos] = srcValues[i];
+                }
+            }
+            long[] tempKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tempKeys;
+            int[] tempValues = srcValues;
+            srcValues = dstValues;
+            dstValues = tempValues;
+            int tempFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = tempFrom;
+            swapped = !swapped;
+        }
+        return swapped;
+    }
+
+    public static void parallelSort(long[] keys) {
+        parallelSort(keys, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(long[] keys, ForkJoinPool pool) {
+        int n = keys.length;
+        if (n < 2) {
+            return;
+        }
+        int parts = Math.max(1, Math.min(pool.getParallelism() * 4, n / PARALLEL_THRESHOLD));
+        int chunk = (n + parts - 1) / parts;
+        int[][] count = new int[parts][RADIX];
+        long[][] buffers = {keys, new long[n]};
+
+        int from = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += BITS) {
+            long[] src = buffers[from];
+            long[] dst = buffers[from ^ 1];
+            int s = shift;
+            forEach(pool, parts, p -> {
+                int[] c = count[p];
+                Arrays.fill(c, 0);
+                for (int i = p * chunk, end = Math.min(n, i + chunk); i < end; i++) {
+                    c[digit(src[i], s)]++;
+                }
+            });
+            int first = digit(src[0], shift);
+            int same = 0;
+            for (int p = 0; p < parts; p++) {
+                same += count[p][first];
+            }
+            if (same == n) {
+                continue;
+            }
+            // 자릿값이 같으면 앞 조각의 키가 먼저 오도록 (자릿값, 조각) 순서로 시작 위치를 정한다.
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                for (int p = 0; p < parts; p++) {
+                    int c = count[p][d];
+                    count[p][d] = sum;
+                    sum += c;
+                }
+            }
+            forEach(pool, parts, p -> {
+                int[] c = count[p];
+                for (int i = p * chunk, end = Math.min(n, i + chunk); i < end; i++) {
+                    dst[c[digit(src[i], s)]++] = src[i];
+                }
+            });
+            from ^= 1;
+        }
+        if (from == 1) {
+            System.arraycopy(buffers[1], 0, keys, 0, n);
+        }
+    }
+
+    // 부호 비트를 뒤집어서 부호 있는 순서를 부호 없는 순서로 바꾼 자릿값
+    private static int digit(long key, int shift) {
+        return (int) ((key ^ Long.MIN_VALUE) >>> shift) & MASK;
+    }
+
+    private static void forEach(ForkJoinPool pool, int parts, IntConsumer body) {
+        if (parts == 1) {
+            body.accept(0);
+            return;
+        }
+        pool.invoke(new PartTask(0, parts, body));
+    }
+
+    @SuppressWarnings("serial")
+    private static final class PartTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        PartTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PartTask(from, mid, body), new PartTask(mid, to, body));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package lib.subset;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 한 배열에 대해 여러 목표 합을 묻는 부분집합 합 색인.
+ * 만들 때 양쪽 절반의 정렬된 부분집합 합을 (서로 다른 값, 개수) 로 압축해 두고,
+ * 질의마다 두 압축 배열을 한 번 맞대어 훑는다 (O(L + R)). 다시 만들고 정렬하는 것보다 훨씬 싸다.
+ * 묶음 질의는 질의끼리 일을 나누지 않는다. 질의마다 따로 훑으며 (각 O(L + R)) ForkJoin 으로 여러 스레드에 나눠 돌 뿐이다.
+ * 모든 개수는 공집합을 포함한다.
+ */
+public final class SubsetSumIndex {
+    private final ForkJoinPool pool;
+    // 왼쪽 절반의 서로 다른 합과 그 개수
+    private final long[] leftValues;
+    private final int[] leftCounts;
+    // 오른쪽 절반의 서로 다른 합, 그 개수, 그 값 이하인 합의 개수
+    private final long[] rightValues;
+    private final int[] rightCounts;
+    private final long[] rightAtMost;
+
+    public SubsetSumIndex(int[] a) {
+        this(a, ForkJoinPool.commonPool());
+    }
+
+    public SubsetSumIndex(int[] a, ForkJoinPool pool) {
+        this.pool = pool;
+        int half = a.length / 2;
+        long[] left = SubsetSums.sorted(a, 0, half, pool);
+        int leftDistinct = distinct(left);
+        leftValues = new long[leftDistinct];
+        leftCounts = new int[leftDistinct];
+        compress(left, leftValues, leftCounts);
+        left = null;
+
+        long[] right = SubsetSums.sorted(a, half, a.length, pool);
+        int rightDistinct = distinct(right);
+        rightValues = new long[rightDistinct];
+        rightCounts = new int[rightDistinct];
+        compress(right, rightValues, rightCounts);
+        rightAtMost = new long[rightDistinct];
+        long sum = 0;
+        for (int i = 0; i < rightDistinct; i++) {
+            sum += rightCounts[i];
+            rightAtMost[i] = sum;
+        }
+    }
+
+    private static int distinct(long[] sorted) {
+        int d = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                d++;
+            }
+        }
+        return d;
+    }
+
+    private static void compress(long[] sorted, long[] values, int[] counts) {
+        int d = -1;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                values[++d] = sorted[i];
+            }
+            counts[d]++;
+        }
+    }
+
+    // 합이 target 인 부분집합 수
+    public long count(long target) {
+        int j = rightValues.length - 1;
+        long result = 0;
+        for (int i = 0; i < leftValues.length && j >= 0; i++) {
+            long need = minus(target, leftValues[i]);
+            while (j >= 0 && rightValues[j] > need) {
+                j--;
+            }
+            if (j >= 0 && rightValues[j] == need) {
+                result += (long) leftCounts[i] * rightCounts[j];
+            }
+        }
+        return result;
+    }
+
+    // 합이 x 이하인 부분집합 수
+    public long countAtMost(long x) {
+        int j = rightValues.length - 1;
+        long result = 0;
+        for (int i = 0; i < leftValues.length; i++) {
+            long need = minus(x, leftValues[i]);
+            while (j >= 0 && rightValues[j] > need) {
+                j--;
+            }
+            if (j < 0) {
+                break;
+            }
+            result += leftCounts[i] * rightAtMost[j];
+        }
+        return result;
+    }
+
+    // x - y 를 long 범위로 잘라서 구한다. 넘치면 Long.MAX_VALUE, 모자라면 Long.MIN_VALUE 다.
+    private static long minus(long x, long y) {
+        long r = x - y;
+        if (((x ^ y) & (x ^ r)) < 0) {
+            return x < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return r;
+    }
+
+    // 합이 lo 이상 hi 이하인 부분집합 수
+    public long countBetween(long lo, long hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        long below = lo == Long.MIN_VALUE ? 0 : countAtMost(lo - 1);
+        return countAtMost(hi) - below;
+    }
+
+    // targets[i] 마다 count 를 구한다. 질의마다 따로 훑으므로 비용은 count 를 하나씩 부른 것과 같고 스레드 수만큼 빨라질 뿐이다.
+    public long[] count(long[] targets) {
+        long[] answers = new long[targets.length];
+        pool.invoke(new QueryTask(targets, null, answers, 0, targets.length));
+        return answers;
+    }
+
+    // lo[i] ~ hi[i] 마다 countBetween 을 구한다. count(long[]) 처럼 독립 질의를 나눠 돌 뿐이다.
+    public long[] countBetween(long[] lo, long[] hi) {
+        if (lo.length != hi.length) {
+            throw new IllegalArgumentException("lo and hi differ in length");
+        }
+        long[] answers = new long[lo.length];
+        pool.invoke(new QueryTask(lo, hi, answers, 0, lo.length));
+        return answers;
+    }
+
+    public int leftDistinct() {
+        return leftValues.length;
+    }
+
+    public int rightDistinct() {
+        return rightValues.length;
+    }
+
+    @SuppressWarnings("serial")
+    private final class QueryTask extends RecursiveAction {
+        private final long[] lo;
+        private final long[] hi;
+        private final long[] answers;
+        private final int from;
+        private final int to;
+
+        QueryTask(long[] lo, long[] hi, long[] answers, int from, int to) {
+            this.lo = lo;
+            this.hi = hi;
+            this.answers = answers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // 질의 하나가 이미 양쪽 압축 배열을 다 훑는 크기라 질의 하나까지 나눈다.
+            if (to - from <= 1) {
+                for (int q = from; q < to; q++) {
+                    answers[q] = hi == null ? count(lo[q]) : countBetween(lo[q], hi[q]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new QueryTask(lo, hi, answers, from, mid), new QueryTask(lo, hi, answers, mid, to));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package lib.subset;
+
+import lib.sort.RadixSort;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 반으로 나눠 만나는(meet in the middle) 부분집합 합 계산.
+ * 한쪽 절반 k 개 원소의 부분집합 합 2^k 개를 재귀 없이 그레이 코드 순서로 long 배열에 채운다.
+ * 그레이 코드에서는 이웃한 두 부분집합이 원소 하나만 달라서 합을 더하거나 빼기 한 번으로 다음 합을 얻는다.
+ * 배열을 구간으로 나눠 구간 첫 합만 직접 계산하고 나머지는 ForkJoin 으로 이어서 채운 뒤 병렬 기수 정렬한다.
+ */
+public final class SubsetSums {
+    // 한 작업이 채우는 합의 수는 2^BLOCK_BITS 개
+    private static final int BLOCK_BITS = 16;
+    // 절반이 이보다 크면 배열 길이가 int 범위를 넘는다.
+    public static final int MAX_HALF = 30;
+
+    private SubsetSums() {
+    }
+
+    // a[from, to) 의 부분집합 합을 (공집합 포함) 모두 만들어 오름차순으로 돌려준다.
+    public static long[] sorted(int[] a, int from, int to) {
+        return sorted(a, from, to, ForkJoinPool.commonPool());
+    }
+
+    public static long[] sorted(int[] a, int from, int to, ForkJoinPool pool) {
+        int k = to - from;
+        if (k > MAX_HALF) {
+            throw new IllegalArgumentException("too many elements: " + k);
+        }
+        long[] sums = new long[1 << k];
+        int blocks = 1 << Math.max(k - BLOCK_BITS, 0);
+        if (blocks == 1) {
+            fill(a, from, sums, 0, sums.length);
+        } else {
+            pool.invoke(new FillTask(a, from, sums, 0, blocks, sums.length / blocks));
+        }
+        RadixSort.parallelSort(sums, pool);
+        return sums;
+    }
+
+    // sums[start, end) 자리에 그레이 코드 start ~ end-1 번 부분집합의 합을 채운다.
+    private static void fill(int[] a, int from, long[] sums, int start, int end) {
+        int gray = start ^ (start >>> 1);
+        long sum = 0;
+        for (int bits = gray; bits != 0; bits &= bits - 1) {
+            sum += a[from + Integer.numberOfTrailingZeros(bits)];
+        }
+        sums[start] = sum;
+        for (int i = start + 1; i < end; i++) {
+            int bit = Integer.numberOfTrailingZeros(i);
+            gray ^= 1 << bit;
+            if ((gray >>> bit & 1) != 0) {
+                sum += a[from + bit];
+            } else {
+                sum -= a[from + bit];
+            }
+            sums[i] = sum;
+        }
+    }
+
+    // left 의 한 값과 right 의 한 값을 골라 합이 target 인 쌍의 수. 두 배열은 오름차순이어야 한다.
+    public static long countPairs(long[] left, long[] right, long target) {
+        int pl = 0;
+        int pr = right.length - 1;
+        long result = 0;
+        while (pl < left.length && pr >= 0) {
+            long sum = left[pl] + right[pr];
+            if (sum == target) {
+                long leftVal = left[pl];
+                long rightVal = right[pr];
+                long leftCnt = 0;
+                long rightCnt = 0;
+                while (pl < left.length && left[pl] == leftVal) {
+                    leftCnt++;
+                    pl++;
+                }
+                while (pr >= 0 && right[pr] == rightVal) {
+                    rightCnt++;
+                    pr--;
+                }
+                result += leftCnt * rightCnt;
+            } else if (sum < target) {
+                pl++;
+            } else {
+                pr--;
+            }
+        }
+        return result;
+    }
+
+    // 합이 target 인 a 의 부분집합 수 (공집합 포함)
+    public static long count(int[] a, long target) {
+        int half = a.length / 2;
+        return countPairs(sorted(a, 0, half), sorted(a, half, a.length), target);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class FillTask extends RecursiveAction {
+        private final int[] a;
+        private final int from;
+        private final long[] sums;
+        private final int lo;
+        private final int hi;
+        private final int block;
+
+        FillTask(int[] a, int from, long[] sums, int lo, int hi, int block) {
+            this.a = a;
+            this.from = from;
+            this.sums = sums;
+            this.lo = lo;
+            this.hi = hi;
+            this.block = block;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                fill(a, from, sums, lo * block, hi * block);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new FillTask(a, from, sums, lo, mid, block), new FillTask(a, from, sums, mid, hi, block));
+        }
+    }
+}
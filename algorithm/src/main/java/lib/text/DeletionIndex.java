@@ -0,0 +1,211 @@
+package lib.text;
+
+import lib.sort.RadixSort;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 한 글자를 빼서 만들 수 있는 단어 (삭제 변형) 로 단어를 찾는 색인. 단어를 하나씩 넣으면서 (스트리밍으로) 만든다.
+ * 같은 단어는 한 번만 저장하고 처음 나온 순서대로 번호를 매긴다. 그래서 흔한 짧은 단어가 여러 번 나와도 변형 표가 붓지 않는다.
+ * 길이 L 단어의 서로 다른 삭제 변형마다 다항식 해시를 접두사 / 접미사 해시로 O(1) 에 구해서
+ * 32 비트 지문 -> 단어 번호 를 선형 탐사 해시 표 (int 배열 두 개) 에 넣는다. 변형 문자열은 저장하지 않는다.
+ * 단어 s 에 글자 하나를 끼워 넣은 단어들은 s 의 해시 하나로 표를 찾고 후보를 직접 비교해서 확인하므로 O(L + 후보 수 * L) 이다.
+ * 같은 지문은 넣은 순서대로 탐사 경로에 놓이므로 결과는 단어 번호 오름차순으로 나온다.
+ */
+public final class DeletionIndex {
+    private static final long BASE = 0x100000001B3L;
+
+    private byte[] chars = new byte[1 << 10];
+    private int[] offset = new int[1 << 6];
+    private int words;
+    // 변형 표. ids 는 단어 번호 + 1 이고 0 이면 빈 칸이다.
+    private int[] fingerprints = new int[1 << 10];
+    private int[] ids = new int[1 << 10];
+    private int entries;
+    // 단어 표. 단어 전체 해시의 지문 -> 단어 번호 + 1
+    private int[] wordFingerprints = new int[1 << 6];
+    private int[] wordIds = new int[1 << 6];
+    // 해시 계산용 버퍼
+    private long[] prefix = new long[64];
+    private long[] power = {1};
+
+    // 단어를 넣고 번호를 돌려준다. 번호는 0 부터 처음 나온 순서대로고, 이미 있는 단어면 그 번호를 돌려준다.
+    public int add(byte[] s, int from, int to) {
+        int len = to - from;
+        hashPrefixes(s, from, len);
+        int fp = fingerprint(prefix[len]);
+        int mask = wordIds.length - 1;
+        int slot = fp & mask;
+        for (; wordIds[slot] != 0; slot = (slot + 1) & mask) {
+            int other = wordIds[slot] - 1;
+            if (wordFingerprints[slot] == fp && Arrays.equals(chars, offset[other], offset[other + 1], s, from, to)) {
+                return other;
+            }
+        }
+        int id = words;
+        wordFingerprints[slot] = fp;
+        wordIds[slot] = id + 1;
+        if (id + 2 > offset.length) {
+            offset = Arrays.copyOf(offset, offset.length * 2);
+        }
+        int at = offset[id];
+        if (at + len > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, at + len));
+        }
+        System.arraycopy(s, from, chars, at, len);
+        offset[id + 1] = at + len;
+        words++;
+        if (words * 2 >= wordIds.length) {
+            growWords();
+        }
+
+        for (int p = 0; p < len; p++) {
+            // 같은 글자가 이어지면 어느 것을 빼도 같은 변형이다.
+            if (p > 0 && chars[at + p] == chars[at + p - 1]) {
+                continue;
+            }
+            long suffix = prefix[len] - prefix[p + 1] * power[len - p - 1];
+            insert(fingerprint(prefix[p] * power[len - p - 1] + suffix), id);
+        }
+        return id;
+    }
+
+    public int size() {
+        return words;
+    }
+
+    public int length(int id) {
+        return offset[id + 1] - offset[id];
+    }
+
+    // 단어 id 는 chars()[start(id), start(id) + length(id)) 에 있다. 단어를 더 넣으면 배열이 바뀔 수 있다.
+    public byte[] chars() {
+        return chars;
+    }
+
+    public int start(int id) {
+        return offset[id];
+    }
+
+    // 단어 id 에 글자 하나를 끼워 넣은 단어들의 번호를 오름차순으로 넘긴다.
+    public void forEachExtension(int id, IntConsumer action) {
+        forEachExtension(chars, offset[id], offset[id + 1], action);
+    }
+
+    public void forEachExtension(byte[] s, int from, int to, IntConsumer action) {
+        int len = to - from;
+        long hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = hash * BASE + (s[i] & 0xff) + 1;
+        }
+        int fp = fingerprint(hash);
+        int mask = fingerprints.length - 1;
+        int last = -1;
+        for (int slot = fp & mask; ids[slot] != 0; slot = (slot + 1) & mask) {
+            int candidate = ids[slot] - 1;
+            if (fingerprints[slot] == fp && candidate != last && length(candidate) == len + 1
+                    && extends1(s, from, to, offset[candidate])) {
+                last = candidate;
+                action.accept(candidate);
+            }
+        }
+    }
+
+    // chars[at, at + L + 1) 에서 글자 하나를 빼면 s[from, to) 인지
+    private boolean extends1(byte[] s, int from, int to, int at) {
+        int i = from;
+        int j = at;
+        while (i < to && s[i] == chars[j]) {
+            i++;
+            j++;
+        }
+        j++;
+        while (i < to && s[i] == chars[j]) {
+            i++;
+            j++;
+        }
+        return i == to;
+    }
+
+    // prefix[p] 는 앞 p 글자의 해시. power 도 len 까지 채운다.
+    private void hashPrefixes(byte[] s, int from, int len) {
+        if (prefix.length <= len) {
+            prefix = new long[Math.max(prefix.length * 2, len + 1)];
+        }
+        if (power.length <= len) {
+            int old = power.length;
+            power = Arrays.copyOf(power, Math.max(old * 2, len + 1));
+            for (int i = old; i < power.length; i++) {
+                power[i] = power[i - 1] * BASE;
+            }
+        }
+        for (int p = 0; p < len; p++) {
+            prefix[p + 1] = prefix[p] * BASE + (s[from + p] & 0xff) + 1;
+        }
+    }
+
+    private static int fingerprint(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private void insert(int fp, int id) {
+        if (entries * 2 >= fingerprints.length) {
+            grow();
+        }
+        int mask = fingerprints.length - 1;
+        int slot = fp & mask;
+        while (ids[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        fingerprints[slot] = fp;
+        ids[slot] = id + 1;
+        entries++;
+    }
+
+    private void growWords() {
+        int[] oldFingerprints = wordFingerprints;
+        int[] oldIds = wordIds;
+        wordFingerprints = new int[oldIds.length * 2];
+        wordIds = new int[oldIds.length * 2];
+        int mask = wordIds.length - 1;
+        for (int k = 0; k < oldIds.length; k++) {
+            if (oldIds[k] != 0) {
+                int slot = oldFingerprints[k] & mask;
+                while (wordIds[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                wordFingerprints[slot] = oldFingerprints[k];
+                wordIds[slot] = oldIds[k];
+            }
+        }
+    }
+
+    // 표를 두 배로 늘린다. 같은 지문이 단어 번호 순으로 놓이도록 번호 순으로 기수 정렬해서 다시 넣는다.
+    private void grow() {
+        long[] keys = new long[entries];
+        int[] values = new int[entries];
+        int n = 0;
+        for (int slot = 0; slot < ids.length; slot++) {
+            if (ids[slot] != 0) {
+                keys[n] = ids[slot];
+                values[n++] = fingerprints[slot];
+            }
+        }
+        RadixSort.sort(keys, values, 0, n);
+        fingerprints = new int[fingerprints.length * 2];
+        ids = new int[ids.length * 2];
+        int mask = fingerprints.length - 1;
+        for (int k = 0; k < n; k++) {
+            int slot = values[k] & mask;
+            while (ids[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            fingerprints[slot] = values[k];
+            ids[slot] = (int) keys[k];
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package lib.text;
+
+import java.util.Arrays;
+
+/**
+ * 단어들을 사전 순으로 정렬한 색인. 단어 i 는 chars[offset[i], offset[i + 1]) 이다.
+ * 바이트 단위 MSD 기수 정렬을 재귀 없이 명시적 스택으로 돌고 작은 구간은 삽입 정렬로 마무리한다. 정렬은 안정적이라
+ * 같은 단어끼리는 입력 순서가 유지된다. 정렬 뒤 이웃한 두 단어의 공통 접두사 길이 (lcp) 를 한 번에 구해 둔다.
+ * 두 단어의 공통 접두사는 정렬 순서에서 그 사이 lcp 의 최솟값이라, 접두사가 L 이상 같은 단어들은 정렬 순서에서 한 덩어리가 된다.
+ */
+public final class SortedWords {
+    // 이보다 작은 구간은 삽입 정렬
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private final byte[] chars;
+    private final int[] offset;
+    private final int[] order;
+    // lcp[k] 는 order[k - 1] 과 order[k] 의 공통 접두사 길이 (lcp[0] = 0)
+    private final int[] lcp;
+
+    public SortedWords(byte[] chars, int[] offset) {
+        this.chars = chars;
+        this.offset = offset;
+        int n = offset.length - 1;
+        order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        sort(n);
+        lcp = new int[n];
+        for (int k = 1; k < n; k++) {
+            int a = offset[order[k - 1]];
+            int b = offset[order[k]];
+            int len = Math.min(offset[order[k - 1] + 1] - a, offset[order[k] + 1] - b);
+            int d = 0;
+            while (d < len && chars[a + d] == chars[b + d]) {
+                d++;
+            }
+            lcp[k] = d;
+        }
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    // 사전 순으로 k 번째 단어의 입력 위치
+    public int order(int k) {
+        return order[k];
+    }
+
+    public int lcp(int k) {
+        return lcp[k];
+    }
+
+    public int length(int i) {
+        return offset[i + 1] - offset[i];
+    }
+
+    // 공통 접두사가 가장 긴 서로 다른 두 단어 {i, j} (i < j). 그런 쌍이 여럿이면 i 가, 그다음 j 가 가장 앞선 쌍이다.
+    // 서로 다른 단어가 둘 이상 없으면 null
+    public int[] similarPair() {
+        int n = order.length;
+        // 정렬 순서에서 같은 단어는 붙어 있으므로 단어마다 번호를 매긴다.
+        int[] word = new int[n];
+        int best = -1;
+        for (int k = 1; k < n; k++) {
+            boolean same = lcp[k] == length(order[k - 1]) && lcp[k] == length(order[k]);
+            word[k] = same ? word[k - 1] : word[k - 1] + 1;
+            if (!same) {
+                best = Math.max(best, lcp[k]);
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        // 접두사가 best 이상 같은 덩어리마다 가장 앞선 단어 i 와, 그와 다른 단어 중 가장 앞선 j 를 본다.
+        int[] pair = null;
+        for (int lo = 0, hi; lo < n; lo = hi) {
+            int i = order[lo];
+            int first = lo;
+            for (hi = lo + 1; hi < n && lcp[hi] >= best; hi++) {
+                if (order[hi] < i) {
+                    i = order[hi];
+                    first = hi;
+                }
+            }
+            int j = Integer.MAX_VALUE;
+            for (int k = lo; k < hi; k++) {
+                if (word[k] != word[first] && order[k] > i) {
+                    j = Math.min(j, order[k]);
+                }
+            }
+            if (j == Integer.MAX_VALUE) {
+                continue;
+            }
+            if (pair == null || i < pair[0] || i == pair[0] && j < pair[1]) {
+                pair = new int[] {i, j};
+            }
+        }
+        return pair;
+    }
+
+    // 단어 i 의 depth 번째 글자 + 1. 단어가 끝났으면 0
+    private int key(int i, int depth) {
+        int at = offset[i] + depth;
+        return at < offset[i + 1] ? (chars[at] & 0xff) + 1 : 0;
+    }
+
+    private void sort(int n) {
+        int[] aux = new int[n];
+        int[] count = new int[258];
+        int[] stack = new int[48];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n;
+        stack[top++] = 0;
+        while (top > 0) {
+            int depth = stack[--top];
+            int hi = stack[--top];
+            int lo = stack[--top];
+            if (hi - lo < INSERTION_THRESHOLD) {
+                insertionSort(lo, hi, depth);
+                continue;
+            }
+            Arrays.fill(count, 0);
+            for (int k = lo; k < hi; k++) {
+                count[key(order[k], depth) + 1]++;
+            }
+            // 모두 같은 글자면 흩뿌리지 않고 다음 글자로 넘어간다.
+            int single = key(order[lo], depth);
+            if (count[single + 1] == hi - lo) {
+                if (single != 0) {
+                    stack = push(stack, top, lo, hi, depth + 1);
+                    top += 3;
+                }
+                continue;
+            }
+            for (int c = 1; c < count.length; c++) {
+                count[c] += count[c - 1];
+            }
+            for (int k = lo; k < hi; k++) {
+                aux[count[key(order[k], depth)]++] = order[k];
+            }
+            System.arraycopy(aux, 0, order, lo, hi - lo);
+            // count[c] 는 이제 글자 c 구간의 끝이다. 끝난 단어 (c = 0) 구간은 더 정렬할 것이 없다.
+            for (int c = 1; c < 257; c++) {
+                int from = lo + count[c - 1];
+                int to = lo + count[c];
+                if (to - from > 1) {
+                    stack = push(stack, top, from, to, depth + 1);
+                    top += 3;
+                }
+            }
+        }
+    }
+
+    private static int[] push(int[] stack, int top, int lo, int hi, int depth) {
+        if (top + 3 > stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[top] = lo;
+        stack[top + 1] = hi;
+        stack[top + 2] = depth;
+        return stack;
+    }
+
+    // depth 글자까지는 모두 같은 구간을 안정적으로 정렬한다.
+    private void insertionSort(int lo, int hi, int depth) {
+        for (int k = lo + 1; k < hi; k++) {
+            int v = order[k];
+            int m = k - 1;
+            while (m >= lo && compare(order[m], v, depth) > 0) {
+                order[m + 1] = order[m];
+                m--;
+            }
+            order[m + 1] = v;
+        }
+    }
+
+    private int compare(int i, int j, int depth) {
+        int a = offset[i] + depth;
+        int b = offset[j] + depth;
+        int aEnd = offset[i + 1];
+        int bEnd = offset[j + 1];
+        while (a < aEnd && b < bEnd) {
+            int d = (chars[a] & 0xff) - (chars[b] & 0xff);
+            if (d != 0) {
+                return d;
+            }
+            a++;
+            b++;
+        }
+        return (aEnd - a) - (bEnd - b);
+    }
+}
@@ -0,0 +1,36 @@
+package lib.tree;
+
+/**
+ * 간선 목록으로 만든 무방향 인접 리스트 (CSR). 정점 v 의 이웃은 to[offset[v]] ~ to[offset[v + 1] - 1] 이고
+ * edge 는 그 이웃으로 가는 간선의 입력 번호다.
+ */
+final class Csr {
+    final int[] offset;
+    final int[] to;
+    final int[] edge;
+
+    Csr(int n, int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("a and b differ in length");
+        }
+        offset = new int[n + 1];
+        for (int i = 0; i < a.length; i++) {
+            offset[a[i] + 1]++;
+            offset[b[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offset[v + 1] += offset[v];
+        }
+        to = new int[a.length * 2];
+        edge = new int[a.length * 2];
+        int[] fill = offset.clone();
+        for (int i = 0; i < a.length; i++) {
+            int p = fill[a[i]]++;
+            to[p] = b[i];
+            edge[p] = i;
+            p = fill[b[i]]++;
+            to[p] = a[i];
+            edge[p] = i;
+        }
+    }
+}
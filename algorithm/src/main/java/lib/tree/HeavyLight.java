@@ -0,0 +1,208 @@
+package lib.tree;
+
+import java.util.Arrays;
+
+/**
+ * 간선 가중치가 바뀌는 트리(숲)의 거리 질의.
+ * heavy-light 분해 순서 (무거운 자식을 먼저 도는 전위 순서) 로 정점에 번호를 매기면 서브트리와 무거운 경로가 모두 연속 구간이 된다.
+ * 루트까지의 거리를 그 순서 위 펜윅 트리 (구간 더하기, 점 조회) 에 두고,
+ * 간선 p-c 의 가중치가 delta 만큼 바뀌면 c 의 서브트리 구간에 delta 를 더한다.
+ * lca 는 경로 머리를 따라 올라가서 구한다. 갱신과 거리 질의 모두 O(log n) 이다.
+ * 정점은 0 ~ n-1 이고, 서로 다른 컴포넌트의 두 정점 사이 거리는 -1 이다.
+ */
+public final class HeavyLight {
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] head;
+    private final int[] pos;
+    private final int[] size;
+    private final int[] component;
+    // 간선 번호 -> 그 간선 아래쪽 정점
+    private final int[] lower;
+    // 정점 v 와 부모를 잇는 간선의 현재 가중치
+    private final long[] weight;
+    private final long[] tree;
+
+    // a[i] - b[i] 가 가중치 w[i] 인 간선이다.
+    public HeavyLight(int n, int[] a, int[] b, int[] w) {
+        Csr g = new Csr(n, a, b);
+        parent = new int[n];
+        depth = new int[n];
+        head = new int[n];
+        pos = new int[n];
+        size = new int[n];
+        component = new int[n];
+        lower = new int[a.length];
+        weight = new long[n];
+        int[] order = new int[n];
+        int[] heavy = new int[n];
+        int[] stack = new int[n];
+        boolean[] seen = new boolean[n];
+
+        // 1. 부모, 깊이, 서브트리 크기, 무거운 자식
+        int count = 0;
+        int components = 0;
+        for (int root = 0; root < n; root++) {
+            if (seen[root]) {
+                continue;
+            }
+            seen[root] = true;
+            parent[root] = -1;
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int u = stack[--top];
+                order[count++] = u;
+                component[u] = components;
+                for (int p = g.offset[u]; p < g.offset[u + 1]; p++) {
+                    int v = g.to[p];
+                    if (!seen[v]) {
+                        seen[v] = true;
+                        parent[v] = u;
+                        depth[v] = depth[u] + 1;
+                        weight[v] = w[g.edge[p]];
+                        lower[g.edge[p]] = v;
+                        stack[top++] = v;
+                    }
+                }
+            }
+            components++;
+        }
+        Arrays.fill(size, 1);
+        Arrays.fill(heavy, -1);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = order[i];
+            if (parent[v] >= 0) {
+                size[parent[v]] += size[v];
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            int p = parent[v];
+            if (p >= 0 && (heavy[p] < 0 || size[v] > size[heavy[p]])) {
+                heavy[p] = v;
+            }
+        }
+
+        // 2. 무거운 자식을 가장 나중에 쌓아서 바로 다음 번호를 받게 한다.
+        int time = 0;
+        for (int root = 0; root < n; root++) {
+            if (parent[root] >= 0) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int u = stack[--top];
+                pos[u] = time++;
+                head[u] = parent[u] >= 0 && heavy[parent[u]] == u ? head[parent[u]] : u;
+                for (int p = g.offset[u]; p < g.offset[u + 1]; p++) {
+                    int v = g.to[p];
+                    if (v != parent[u] && v != heavy[u]) {
+                        stack[top++] = v;
+                    }
+                }
+                if (heavy[u] >= 0) {
+                    stack[top++] = heavy[u];
+                }
+            }
+        }
+
+        // 3. 루트까지의 거리를 차분으로 펜윅 트리에 O(n) 에 채운다.
+        long[] dist = new long[n];
+        for (int i = 0; i < n; i++) {
+            int v = order[i];
+            if (parent[v] >= 0) {
+                dist[v] = dist[parent[v]] + weight[v];
+            }
+        }
+        long[] byPos = new long[n];
+        for (int v = 0; v < n; v++) {
+            byPos[pos[v]] = dist[v];
+        }
+        tree = new long[n + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            byPos[i] -= i > 0 ? byPos[i - 1] : 0;
+        }
+        for (int i = 1; i <= n; i++) {
+            tree[i] += byPos[i - 1];
+            int j = i + (i & -i);
+            if (j <= n) {
+                tree[j] += tree[i];
+            }
+        }
+    }
+
+    private void add(int i, long delta) {
+        for (i++; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // 루트에서 v 까지의 현재 거리
+    public long rootDistance(int v) {
+        long sum = 0;
+        for (int i = pos[v] + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // 같은 컴포넌트가 아니면 -1
+    public int lca(int u, int v) {
+        if (component[u] != component[v]) {
+            return -1;
+        }
+        while (head[u] != head[v]) {
+            if (depth[head[u]] > depth[head[v]]) {
+                u = parent[head[u]];
+            } else {
+                v = parent[head[v]];
+            }
+        }
+        return depth[u] <= depth[v] ? u : v;
+    }
+
+    public long distance(int u, int v) {
+        int c = lca(u, v);
+        if (c < 0) {
+            return -1;
+        }
+        return rootDistance(u) + rootDistance(v) - 2 * rootDistance(c);
+    }
+
+    // 입력에서 edge 번째 간선의 가중치를 w 로 바꾼다.
+    public void updateEdge(int edge, long w) {
+        setWeight(lower[edge], w);
+    }
+
+    // a-b 간선의 가중치를 w 로 바꾼다.
+    public void updateEdge(int a, int b, long w) {
+        if (parent[b] == a) {
+            setWeight(b, w);
+        } else if (parent[a] == b) {
+            setWeight(a, w);
+        } else {
+            throw new IllegalArgumentException("no edge between " + a + " and " + b);
+        }
+    }
+
+    private void setWeight(int c, long w) {
+        long delta = w - weight[c];
+        if (delta == 0) {
+            return;
+        }
+        weight[c] = w;
+        add(pos[c], delta);
+        add(pos[c] + size[c], -delta);
+    }
+
+    public long weight(int a, int b) {
+        if (parent[b] == a) {
+            return weight[b];
+        }
+        if (parent[a] == b) {
+            return weight[a];
+        }
+        throw new IllegalArgumentException("no edge between " + a + " and " + b);
+    }
+}
@@ -0,0 +1,166 @@
+package lib.tree;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 가중치 트리(숲)의 두 정점 거리를 O(1) 에 답하는 색인.
+ * 전처리는 재귀 없는 DFS 한 번으로 루트까지의 거리, 깊이, 부모, 전위 순서를 구하고
+ * 전위 순서 위에 깊이가 가장 얕은 정점을 고르는 희소 테이블을 쌓는다 (n log n 개의 int).
+ * tin[u] < tin[v] 일 때 lca(u, v) 는 전위 순서 (tin[u], tin[v]] 구간에서 가장 얕은 정점의 부모다.
+ * 정점은 0 ~ n-1 이고, 서로 다른 컴포넌트의 두 정점 사이 거리는 -1 이다.
+ */
+public final class LcaIndex {
+    // 이보다 작은 질의 묶음은 현재 스레드에서 바로 답한다.
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final int[] parent;
+    private final int[] depth;
+    private final long[] dist;
+    private final int[] tin;
+    private final int[] component;
+    private final int[][] table;
+
+    // a[i] - b[i] 가 가중치 w[i] 인 간선이다.
+    public LcaIndex(int n, int[] a, int[] b, int[] w) {
+        Csr g = new Csr(n, a, b);
+        parent = new int[n];
+        depth = new int[n];
+        dist = new long[n];
+        tin = new int[n];
+        component = new int[n];
+        int[] order = new int[n];
+        int[] stack = new int[n];
+        boolean[] seen = new boolean[n];
+
+        int time = 0;
+        int components = 0;
+        for (int root = 0; root < n; root++) {
+            if (seen[root]) {
+                continue;
+            }
+            seen[root] = true;
+            parent[root] = -1;
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int u = stack[--top];
+                tin[u] = time;
+                order[time++] = u;
+                component[u] = components;
+                for (int p = g.offset[u]; p < g.offset[u + 1]; p++) {
+                    int v = g.to[p];
+                    if (!seen[v]) {
+                        seen[v] = true;
+                        parent[v] = u;
+                        depth[v] = depth[u] + 1;
+                        dist[v] = dist[u] + w[g.edge[p]];
+                        stack[top++] = v;
+                    }
+                }
+            }
+            components++;
+        }
+
+        int levels = 1;
+        while (1 << levels <= n) {
+            levels++;
+        }
+        table = new int[levels][];
+        table[0] = order;
+        for (int k = 1; k < levels; k++) {
+            int[] prev = table[k - 1];
+            int half = 1 << (k - 1);
+            int[] cur = new int[n - (1 << k) + 1];
+            for (int i = 0; i < cur.length; i++) {
+                cur[i] = shallower(prev[i], prev[i + half]);
+            }
+            table[k] = cur;
+        }
+    }
+
+    private int shallower(int u, int v) {
+        return depth[u] <= depth[v] ? u : v;
+    }
+
+    // 같은 컴포넌트가 아니면 -1
+    public int lca(int u, int v) {
+        if (component[u] != component[v]) {
+            return -1;
+        }
+        if (u == v) {
+            return u;
+        }
+        int l = tin[u];
+        int r = tin[v];
+        if (l > r) {
+            int temp = l;
+            l = r;
+            r = temp;
+        }
+        l++;
+        int k = 31 - Integer.numberOfLeadingZeros(r - l + 1);
+        return parent[shallower(table[k][l], table[k][r - (1 << k) + 1])];
+    }
+
+    public long distance(int u, int v) {
+        int c = lca(u, v);
+        if (c < 0) {
+            return -1;
+        }
+        return dist[u] + dist[v] - 2 * dist[c];
+    }
+
+    public int depth(int v) {
+        return depth[v];
+    }
+
+    // 루트에서 v 까지의 거리
+    public long rootDistance(int v) {
+        return dist[v];
+    }
+
+    // pairs[2i], pairs[2i+1] 쌍의 거리를 from 번째 쌍부터 to 번째 쌍 전까지 out[i] 에 채운다.
+    public void distances(int[] pairs, int from, int to, long[] out) {
+        distances(pairs, from, to, out, ForkJoinPool.commonPool());
+    }
+
+    public void distances(int[] pairs, int from, int to, long[] out, ForkJoinPool pool) {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            distanceRange(pairs, from, to, out);
+            return;
+        }
+        pool.invoke(new DistanceTask(pairs, from, to, out));
+    }
+
+    private void distanceRange(int[] pairs, int from, int to, long[] out) {
+        for (int i = from; i < to; i++) {
+            out[i] = distance(pairs[i * 2], pairs[i * 2 + 1]);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class DistanceTask extends RecursiveAction {
+        private final int[] pairs;
+        private final int from;
+        private final int to;
+        private final long[] out;
+
+        DistanceTask(int[] pairs, int from, int to, long[] out) {
+            this.pairs = pairs;
+            this.from = from;
+            this.to = to;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                distanceRange(pairs, from, to, out);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DistanceTask(pairs, from, mid, out), new DistanceTask(pairs, mid, to, out));
+        }
+    }
+}
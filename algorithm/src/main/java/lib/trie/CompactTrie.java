@@ -0,0 +1,166 @@
+package lib.trie;
+
+import java.util.Arrays;
+
+/**
+ * 자식 포인터를 int 배열 하나에 모아둔 트라이.
+ * 노드 v 의 글자 k 자식은 next[v * sigma + k] 이고 0 이면 자식이 없다 (0 번은 루트라 누구의 자식도 아니다).
+ * 숫자(10)처럼 알파벳이 작을 때 노드당 4 * sigma 바이트만 쓰고, 조회에 박싱이 없다.
+ * 가지가 드문 큰 알파벳에는 DoubleArrayTrie 가 더 작다.
+ */
+public final class CompactTrie implements Trie {
+    public static final String DIGITS = "0123456789";
+    public static final String LOWERCASE = "abcdefghijklmnopqrstuvwxyz";
+
+    private final int sigma;
+    // 글자 -> 0 ~ sigma-1, 알파벳에 없는 글자는 -1
+    private final byte[] code;
+    private int[] next;
+    private boolean[] end;
+    private int nodes;
+    private int words;
+
+    public CompactTrie(String alphabet) {
+        this(alphabet, 16);
+    }
+
+    public CompactTrie(String alphabet, int expectedNodes) {
+        sigma = alphabet.length();
+        code = Tries.codes(alphabet, 0);
+        int capacity = Math.max(expectedNodes, 1);
+        next = new int[Math.multiplyExact(capacity, sigma)];
+        end = new boolean[capacity];
+        nodes = 1;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(next, 0, nodes * sigma, 0);
+        Arrays.fill(end, 0, nodes, false);
+        nodes = 1;
+        words = 0;
+    }
+
+    private int code(int c) {
+        int k = c < 128 ? code[c] : -1;
+        if (k < 0) {
+            throw new IllegalArgumentException("letter not in alphabet: " + (char) c);
+        }
+        return k;
+    }
+
+    private int newNode() {
+        if (nodes == end.length) {
+            int capacity = end.length * 2;
+            next = Arrays.copyOf(next, Math.multiplyExact(capacity, sigma));
+            end = Arrays.copyOf(end, capacity);
+        }
+        return nodes++;
+    }
+
+    private int step(int node, int k) {
+        int slot = node * sigma + k;
+        int child = next[slot];
+        if (child == 0) {
+            child = newNode();
+            next[slot] = child;
+        }
+        return child;
+    }
+
+    @Override
+    public boolean insert(CharSequence s) {
+        int node = 0;
+        for (int i = 0; i < s.length(); i++) {
+            node = step(node, code(s.charAt(i)));
+        }
+        return mark(node);
+    }
+
+    @Override
+    public boolean insert(byte[] s, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            node = step(node, code(s[i] & 0xff));
+        }
+        return mark(node);
+    }
+
+    private boolean mark(int node) {
+        if (end[node]) {
+            return false;
+        }
+        end[node] = true;
+        words++;
+        return true;
+    }
+
+    // s 로 끝나는 노드. 없으면 -1
+    private int walk(CharSequence s) {
+        int node = 0;
+        for (int i = 0; i < s.length(); i++) {
+            int c = s.charAt(i);
+            int k = c < 128 ? code[c] : -1;
+            if (k < 0) {
+                return -1;
+            }
+            node = next[node * sigma + k];
+            if (node == 0) {
+                return -1;
+            }
+        }
+        return node;
+    }
+
+    private int walk(byte[] s, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            int k = s[i] < 0 ? -1 : code[s[i]];
+            if (k < 0) {
+                return -1;
+            }
+            node = next[node * sigma + k];
+            if (node == 0) {
+                return -1;
+            }
+        }
+        return node;
+    }
+
+    @Override
+    public boolean containsPrefix(CharSequence s) {
+        return walk(s) >= 0;
+    }
+
+    @Override
+    public boolean containsPrefix(byte[] s, int from, int to) {
+        return walk(s, from, to) >= 0;
+    }
+
+    @Override
+    public boolean contains(CharSequence s) {
+        int node = walk(s);
+        return node >= 0 && end[node];
+    }
+
+    @Override
+    public boolean contains(byte[] s, int from, int to) {
+        int node = walk(s, from, to);
+        return node >= 0 && end[node];
+    }
+
+    @Override
+    public int nodes() {
+        return nodes;
+    }
+
+    @Override
+    public int words() {
+        return words;
+    }
+
+    @Override
+    public long bytes() {
+        return 4L * next.length + end.length;
+    }
+}
@@ -0,0 +1,301 @@
+package lib.trie;
+
+import java.util.Arrays;
+
+/**
+ * base / check 두 int 배열로 만든 더블 배열 트라이.
+ * 위치 s 의 글자 k 자식은 t = base[s] + k 이고, check[t] == s 일 때만 진짜 자식이다.
+ * 자식 표를 통째로 들고 있지 않아서 가지가 드문 소문자 트라이에서도 노드당 9 바이트 남짓이다.
+ * 새 자식 자리가 이미 차 있으면 s 의 자식들을 모두 비어있는 새 base 로 옮긴다.
+ * 빈 칸은 check / base 에 음수로 (다음 빈 칸, 이전 빈 칸) 을 적어 원형 연결 리스트로 묶고,
+ * 0 번 칸이 그 리스트의 머리다. 그래서 base 를 찾을 때 빈 칸만 따라가면 된다.
+ */
+public final class DoubleArrayTrie implements Trie {
+    private static final int ROOT = 1;
+    // 빈 칸을 이만큼 맞춰보고도 자리가 없으면 배열 끝의 안 쓴 영역에 놓는다.
+    private static final int MAX_TRIALS = 64;
+
+    private final int sigma;
+    // 글자 -> 1 ~ sigma, 알파벳에 없는 글자는 -1
+    private final byte[] code;
+    private int[] base;
+    private int[] check;
+    private boolean[] end;
+    // 이 칸부터 끝까지는 한 번도 쓰지 않았다.
+    private int top;
+    private int nodes;
+    private int words;
+    private final int[] children;
+
+    public DoubleArrayTrie(String alphabet) {
+        this(alphabet, 1024);
+    }
+
+    public DoubleArrayTrie(String alphabet, int expectedNodes) {
+        sigma = alphabet.length();
+        code = Tries.codes(alphabet, 1);
+        int capacity = Math.max(expectedNodes, sigma + 2);
+        base = new int[capacity];
+        check = new int[capacity];
+        end = new boolean[capacity];
+        children = new int[sigma + 1];
+        clear();
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(end, false);
+        setNext(0, 0);
+        setPrev(0, 0);
+        appendFree(ROOT + 1, check.length);
+        // 루트는 부모가 없다는 뜻으로 check 에 0 을 둔다.
+        base[ROOT] = 0;
+        check[ROOT] = 0;
+        top = ROOT + 1;
+        nodes = 1;
+        words = 0;
+    }
+
+    private int nextFree(int i) {
+        return -check[i] - 1;
+    }
+
+    private int prevFree(int i) {
+        return -base[i] - 1;
+    }
+
+    private void setNext(int i, int next) {
+        check[i] = -next - 1;
+    }
+
+    private void setPrev(int i, int prev) {
+        base[i] = -prev - 1;
+    }
+
+    private boolean isFree(int i) {
+        return check[i] < 0;
+    }
+
+    // from ~ to-1 칸을 빈 칸 리스트 끝에 붙인다.
+    private void appendFree(int from, int to) {
+        for (int i = from; i < to; i++) {
+            int last = prevFree(0);
+            setNext(last, i);
+            setPrev(i, last);
+            setNext(i, 0);
+            setPrev(0, i);
+        }
+    }
+
+    private int code(int c) {
+        int k = c < 128 ? code[c] : -1;
+        if (k < 0) {
+            throw new IllegalArgumentException("letter not in alphabet: " + (char) c);
+        }
+        return k;
+    }
+
+    private void ensure(int size) {
+        if (size <= check.length) {
+            return;
+        }
+        int old = check.length;
+        int capacity = Math.max(size, old + (old >> 1));
+        base = Arrays.copyOf(base, capacity);
+        check = Arrays.copyOf(check, capacity);
+        end = Arrays.copyOf(end, capacity);
+        appendFree(old, capacity);
+    }
+
+    private void claim(int t, int parent) {
+        int prev = prevFree(t);
+        int next = nextFree(t);
+        setNext(prev, next);
+        setPrev(next, prev);
+        check[t] = parent;
+        base[t] = 0;
+        top = Math.max(top, t + 1);
+        nodes++;
+    }
+
+    private void release(int t) {
+        end[t] = false;
+        int next = nextFree(0);
+        setNext(t, next);
+        setPrev(t, 0);
+        setPrev(next, t);
+        setNext(0, t);
+        nodes--;
+    }
+
+    // codes[0..n) 가 모두 빈 칸에 들어가는 base. 빈 칸 리스트를 따라가며 첫 글자 자리부터 맞춰본다.
+    private int findBase(int[] codes, int n) {
+        int e = nextFree(0);
+        for (int trial = 0; ; trial++) {
+            if (e == 0 || trial == MAX_TRIALS) {
+                int q = Math.max(top - codes[0], 1);
+                ensure(q + sigma + 1);
+                return q;
+            }
+            int q = e - codes[0];
+            if (q >= 1 && q + sigma < check.length) {
+                boolean fits = true;
+                for (int i = 1; i < n; i++) {
+                    if (!isFree(q + codes[i])) {
+                        fits = false;
+                        break;
+                    }
+                }
+                if (fits) {
+                    return q;
+                }
+            }
+            e = nextFree(e);
+        }
+    }
+
+    private int step(int s, int k) {
+        int b = base[s];
+        if (b == 0) {
+            children[0] = k;
+            b = findBase(children, 1);
+            base[s] = b;
+            claim(b + k, s);
+            return b + k;
+        }
+        int t = b + k;
+        if (check[t] == s) {
+            return t;
+        }
+        if (isFree(t)) {
+            claim(t, s);
+            return t;
+        }
+        return relocate(s, k);
+    }
+
+    // s 의 자식들과 새 글자 k 가 모두 들어갈 새 base 를 찾아 옮긴다.
+    private int relocate(int s, int k) {
+        int old = base[s];
+        int n = 0;
+        for (int j = 1; j <= sigma; j++) {
+            if (j == k || check[old + j] == s) {
+                children[n++] = j;
+            }
+        }
+        int q = findBase(children, n);
+        for (int i = 0; i < n; i++) {
+            int j = children[i];
+            if (j == k) {
+                continue;
+            }
+            int from = old + j;
+            int to = q + j;
+            claim(to, s);
+            base[to] = base[from];
+            end[to] = end[from];
+            int grand = base[from];
+            if (grand != 0) {
+                for (int g = 1; g <= sigma; g++) {
+                    if (check[grand + g] == from) {
+                        check[grand + g] = to;
+                    }
+                }
+            }
+            release(from);
+        }
+        base[s] = q;
+        claim(q + k, s);
+        return q + k;
+    }
+
+    @Override
+    public boolean insert(CharSequence s) {
+        int node = ROOT;
+        for (int i = 0; i < s.length(); i++) {
+            node = step(node, code(s.charAt(i)));
+        }
+        return mark(node);
+    }
+
+    @Override
+    public boolean insert(byte[] s, int from, int to) {
+        int node = ROOT;
+        for (int i = from; i < to; i++) {
+            node = step(node, code(s[i] & 0xff));
+        }
+        return mark(node);
+    }
+
+    private boolean mark(int node) {
+        if (end[node]) {
+            return false;
+        }
+        end[node] = true;
+        words++;
+        return true;
+    }
+
+    private int child(int s, int c) {
+        int k = c < 128 ? code[c] : -1;
+        int b = base[s];
+        if (k < 0 || b == 0) {
+            return -1;
+        }
+        int t = b + k;
+        return check[t] == s ? t : -1;
+    }
+
+    private int walk(CharSequence s) {
+        int node = ROOT;
+        for (int i = 0; i < s.length() && node >= 0; i++) {
+            node = child(node, s.charAt(i));
+        }
+        return node;
+    }
+
+    private int walk(byte[] s, int from, int to) {
+        int node = ROOT;
+        for (int i = from; i < to && node >= 0; i++) {
+            node = child(node, s[i] & 0xff);
+        }
+        return node;
+    }
+
+    @Override
+    public boolean containsPrefix(CharSequence s) {
+        return walk(s) >= 0;
+    }
+
+    @Override
+    public boolean containsPrefix(byte[] s, int from, int to) {
+        return walk(s, from, to) >= 0;
+    }
+
+    @Override
+    public boolean contains(CharSequence s) {
+        int node = walk(s);
+        return node >= 0 && end[node];
+    }
+
+    @Override
+    public boolean contains(byte[] s, int from, int to) {
+        int node = walk(s, from, to);
+        return node >= 0 && end[node];
+    }
+
+    @Override
+    public int nodes() {
+        return nodes;
+    }
+
+    @Override
+    public int words() {
+        return words;
+    }
+
+    @Override
+    public long bytes() {
+        return 8L * check.length + end.length;
+    }
+}
@@ -0,0 +1,31 @@
+package lib.trie;
+
+/**
+ * 정해진 알파벳의 단어 집합. 넣은 단어 전체와 그 접두사를 찾을 수 있다.
+ */
+public interface Trie {
+
+    // 새로 들어간 단어면 true
+    boolean insert(CharSequence s);
+
+    boolean insert(byte[] s, int from, int to);
+
+    boolean contains(CharSequence s);
+
+    boolean contains(byte[] s, int from, int to);
+
+    // s 가 넣어둔 단어 중 하나의 접두사(단어 자신 포함)인지
+    boolean containsPrefix(CharSequence s);
+
+    boolean containsPrefix(byte[] s, int from, int to);
+
+    // 배열은 그대로 두고 내용만 비운다.
+    void clear();
+
+    int nodes();
+
+    int words();
+
+    // 배열이 실제로 차지하는 바이트 수 (잡아둔 여유 공간 포함)
+    long bytes();
+}
@@ -0,0 +1,26 @@
+package lib.trie;
+
+import java.util.Arrays;
+
+final class Tries {
+
+    private Tries() {
+    }
+
+    // ASCII 글자 -> first, first + 1, ... 표. 알파벳에 없는 글자는 -1
+    static byte[] codes(String alphabet, int first) {
+        if (alphabet.isEmpty() || alphabet.length() + first > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("alphabet size: " + alphabet.length());
+        }
+        byte[] code = new byte[128];
+        Arrays.fill(code, (byte) -1);
+        for (int i = 0; i < alphabet.length(); i++) {
+            char c = alphabet.charAt(i);
+            if (c >= 128) {
+                throw new IllegalArgumentException("non-ASCII letter: " + c);
+            }
+            code[c] = (byte) (i + first);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,38 @@
+package lib.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FastReaderTest {
+
+    // 마지막 줄바꿈이 없는 표준 입력에서 EOF 뒤의 읽기는 계속 EOF 여야 한다.
+    @Test
+    void streamWithoutTrailingNewlineStaysAtEof() throws IOException {
+        FastReader fr = new FastReader(new ByteArrayInputStream("1 2".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(1, fr.nextInt());
+        assertEquals(2, fr.nextInt());
+        assertFalse(fr.hasNext());
+        assertFalse(fr.hasNext());
+        assertEquals(0, fr.nextInt());
+        assertFalse(fr.hasNext());
+    }
+
+    @Test
+    void hasNextLoopReadsEveryToken() throws IOException {
+        FastReader fr = new FastReader(new ByteArrayInputStream("3 -4\n5".getBytes(StandardCharsets.US_ASCII)));
+        long sum = 0;
+        int count = 0;
+        while (fr.hasNext()) {
+            sum += fr.nextLong();
+            count++;
+        }
+        assertEquals(3, count);
+        assertEquals(4, sum);
+    }
+}
@@ -0,0 +1,20 @@
+package lib.subset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SubsetSumIndexTest {
+
+    // 반쪽 합이 음수일 때 끝 값에서 x - 반쪽 합이 넘치지 않아야 한다.
+    @Test
+    void extremeBoundsCountEverySubset() {
+        SubsetSumIndex index = new SubsetSumIndex(new int[]{-5, 3, 7, -2});
+        assertEquals(16, index.countAtMost(Long.MAX_VALUE));
+        assertEquals(16, index.countBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0, index.countAtMost(Long.MIN_VALUE));
+        assertEquals(0, index.count(Long.MAX_VALUE));
+        assertEquals(0, index.count(Long.MIN_VALUE));
+        assertEquals(2, index.count(3));
+    }
+}